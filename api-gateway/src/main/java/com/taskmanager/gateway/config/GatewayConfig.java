@@ -1,15 +1,30 @@
 package com.taskmanager.gateway.config;
 
 import com.taskmanager.gateway.filter.JwtAuthenticationFilter;
+import com.taskmanager.gateway.filter.RateLimitFilter;
+import com.taskmanager.gateway.filter.RequestCoalescingFilter;
+import com.taskmanager.gateway.filter.ResponseCacheFilter;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
 import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.GatewayFilterSpec;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import static org.springframework.cloud.gateway.support.RouteMetadataUtils.CONNECT_TIMEOUT_ATTR;
+import static org.springframework.cloud.gateway.support.RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR;
+
 /**
  * Gateway Configuration
  * Defines routes and applies JWT filter
+ *
+ * Pool limits and acquire timeout live under spring.cloud.gateway.httpclient; the
+ * per-route connect/response timeouts are attached as route metadata here.
  */
 @Configuration
 public class GatewayConfig {
@@ -17,27 +32,100 @@ public class GatewayConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
-//     @Bean
-//     public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
-//         return builder.routes()
-//                 // User Service Routes
-//                 .route("user-service", r -> r
-//                         .path("/api/auth/**")
-//                         .filters(f -> f.filter(jwtAuthenticationFilter))
-//                         .uri("lb://USER-SERVICE"))
-                
-//                 // Project Service - Projects Routes
-//                 .route("project-service-projects", r -> r
-//                         .path("/api/projects/**")
-//                         .filters(f -> f.filter(jwtAuthenticationFilter))
-//                         .uri("lb://PROJECT-SERVICE"))
-                
-//                 // Project Service - Tasks Routes
-//                 .route("project-service-tasks", r -> r
-//                         .path("/api/tasks/**")
-//                         .filters(f -> f.filter(jwtAuthenticationFilter))
-//                         .uri("lb://PROJECT-SERVICE"))
-                
-//                 .build();
-//     }
-}
\ No newline at end of file
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private ResponseCacheFilter responseCacheFilter;
+
+    @Autowired
+    private RequestCoalescingFilter requestCoalescingFilter;
+
+    @Value("${gateway.routes.connect-timeout-ms:1000}")
+    private int connectTimeoutMs;
+
+    @Value("${gateway.routes.user-service.response-timeout-ms:3000}")
+    private long userServiceResponseTimeoutMs;
+
+    @Value("${gateway.routes.project-service.response-timeout-ms:5000}")
+    private long projectServiceResponseTimeoutMs;
+
+    @Value("${gateway.routes.notification-service.response-timeout-ms:3000}")
+    private long notificationServiceResponseTimeoutMs;
+
+    @Value("${gateway.httpclient.keep-alive.idle-seconds:60}")
+    private int keepAliveIdleSeconds;
+
+    @Value("${gateway.httpclient.keep-alive.interval-seconds:15}")
+    private int keepAliveIntervalSeconds;
+
+    @Value("${gateway.httpclient.keep-alive.probes:3}")
+    private int keepAliveProbes;
+
+    @Bean
+    public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
+        return builder.routes()
+                // User Service - auth and user routes
+                .route("user-service", r -> r
+                        .path("/api/auth/**", "/api/users/**")
+                        .filters(this::applyFilters)
+                        .metadata(CONNECT_TIMEOUT_ATTR, connectTimeoutMs)
+                        .metadata(RESPONSE_TIMEOUT_ATTR, userServiceResponseTimeoutMs)
+                        .uri("lb://user-service"))
+
+                // Project Service - projects and tasks routes
+                .route("project-service", r -> r
+                        .path("/api/projects/**", "/api/tasks/**")
+                        .filters(this::applyFilters)
+                        .metadata(CONNECT_TIMEOUT_ATTR, connectTimeoutMs)
+                        .metadata(RESPONSE_TIMEOUT_ATTR, projectServiceResponseTimeoutMs)
+                        .uri("lb://project-service"))
+
+                // Long-lived SSE stream: declared before the generic notification route, no response timeout
+                .route("notification-stream", r -> r
+                        .path("/api/notifications/stream")
+                        .filters(this::applyFilters)
+                        .metadata(CONNECT_TIMEOUT_ATTR, connectTimeoutMs)
+                        .metadata(RESPONSE_TIMEOUT_ATTR, -1L)
+                        .uri("lb://notification-service"))
+
+                // Notification Service routes
+                .route("notification-service", r -> r
+                        .path("/api/notifications/**")
+                        .filters(this::applyFilters)
+                        .metadata(CONNECT_TIMEOUT_ATTR, connectTimeoutMs)
+                        .metadata(RESPONSE_TIMEOUT_ATTR, notificationServiceResponseTimeoutMs)
+                        .uri("lb://notification-service"))
+
+                .build();
+    }
+
+    /**
+     * JWT first, so the rate limiter, cache and coalescing key on the verified user id;
+     * cache hits never reach coalescing or the downstream service
+     */
+    private GatewayFilterSpec applyFilters(GatewayFilterSpec f) {
+        return f.filter(jwtAuthenticationFilter, 0)
+                .filter(rateLimitFilter, 1)
+                .filter(responseCacheFilter, 2)
+                .filter(requestCoalescingFilter, 3);
+    }
+
+    /**
+     * TCP keep-alive on pooled upstream connections, so half-open sockets are
+     * detected before a request is written to them
+     */
+    @Bean
+    public HttpClientCustomizer keepAliveHttpClientCustomizer() {
+        return httpClient -> {
+            httpClient = httpClient.option(ChannelOption.SO_KEEPALIVE, true);
+            if (Epoll.isAvailable()) {
+                httpClient = httpClient
+                        .option(EpollChannelOption.TCP_KEEPIDLE, keepAliveIdleSeconds)
+                        .option(EpollChannelOption.TCP_KEEPINTVL, keepAliveIntervalSeconds)
+                        .option(EpollChannelOption.TCP_KEEPCNT, keepAliveProbes);
+            }
+            return httpClient;
+        };
+    }
+}
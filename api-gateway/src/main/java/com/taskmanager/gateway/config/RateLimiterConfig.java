@@ -0,0 +1,66 @@
+package com.taskmanager.gateway.config;
+
+import com.taskmanager.gateway.ratelimit.InMemoryTokenBucketRateLimiter;
+import com.taskmanager.gateway.ratelimit.LazyRedisConnection;
+import com.taskmanager.gateway.ratelimit.RedisTokenBucketRateLimiter;
+import com.taskmanager.gateway.ratelimit.TokenBucketRateLimiter;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Rate Limiter Configuration
+ * Picks the token bucket backend: in-memory per instance (default) or a shared
+ * Redis-compatible server with gateway.rate-limit.backend=redis
+ */
+@Configuration
+public class RateLimiterConfig {
+
+    @Value("${gateway.rate-limit.capacity:40}")
+    private long capacity;
+
+    @Value("${gateway.rate-limit.replenish-per-second:20}")
+    private double replenishPerSecond;
+
+    @Bean
+    @ConditionalOnProperty(name = "gateway.rate-limit.backend", havingValue = "memory", matchIfMissing = true)
+    public TokenBucketRateLimiter inMemoryTokenBucketRateLimiter(
+            @Value("${gateway.rate-limit.max-keys:100000}") long maxKeys) {
+        return new InMemoryTokenBucketRateLimiter(capacity, replenishPerSecond, maxKeys);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "gateway.rate-limit.backend", havingValue = "redis")
+    static class RedisBackend {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedisClient rateLimitRedisClient() {
+            return RedisClient.create();
+        }
+
+        // Connects in the background: an unreachable server must not keep the gateway from starting
+        @Bean(destroyMethod = "close")
+        public LazyRedisConnection rateLimitRedisConnection(RedisClient rateLimitRedisClient,
+                @Value("${gateway.rate-limit.redis.uri:redis://localhost:6379}") String uri,
+                @Value("${gateway.rate-limit.redis.connect-retry:PT5S}") Duration connectRetry) {
+            return new LazyRedisConnection(rateLimitRedisClient, RedisURI.create(uri), connectRetry);
+        }
+
+        @Bean
+        public TokenBucketRateLimiter redisTokenBucketRateLimiter(
+                LazyRedisConnection rateLimitRedisConnection,
+                @Value("${gateway.rate-limit.capacity:40}") long capacity,
+                @Value("${gateway.rate-limit.replenish-per-second:20}") double replenishPerSecond,
+                @Value("${gateway.rate-limit.max-keys:100000}") long maxKeys) {
+            // Limits per instance until the shared server is reachable
+            TokenBucketRateLimiter fallback = new InMemoryTokenBucketRateLimiter(capacity, replenishPerSecond, maxKeys);
+            return new RedisTokenBucketRateLimiter(rateLimitRedisConnection::commands, capacity, replenishPerSecond,
+                    fallback);
+        }
+    }
+}
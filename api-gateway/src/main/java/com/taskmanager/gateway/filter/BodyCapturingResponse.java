@@ -0,0 +1,70 @@
+package com.taskmanager.gateway.filter;
+
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Buffers the downstream body once, hands a {@link CapturedResponse} to the callback,
+ * then writes the same bytes to the client. Streaming writes (SSE) pass through uncaptured.
+ */
+class BodyCapturingResponse extends ServerHttpResponseDecorator {
+
+    /**
+     * Hop-by-hop and per-request headers are recomputed for each replay rather than copied
+     */
+    private static final List<String> EXCLUDED_HEADERS = List.of(
+            HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONTENT_LENGTH,
+            HttpHeaders.CONNECTION,
+            RateLimitFilter.REMAINING_HEADER,
+            ResponseCacheFilter.CACHE_STATUS_HEADER
+    );
+
+    private final Consumer<CapturedResponse> onCaptured;
+
+    BodyCapturingResponse(ServerHttpResponse delegate, Consumer<CapturedResponse> onCaptured) {
+        super(delegate);
+        this.onCaptured = onCaptured;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        return DataBufferUtils.join(Flux.from(body))
+                .map(joined -> {
+                    byte[] bytes = new byte[joined.readableByteCount()];
+                    joined.read(bytes);
+                    DataBufferUtils.release(joined);
+                    return bytes;
+                })
+                .defaultIfEmpty(new byte[0])
+                .flatMap(bytes -> {
+                    onCaptured.accept(new CapturedResponse(getStatusCode(), copyHeaders(), bytes));
+                    return super.writeWith(Mono.just(bufferFactory().wrap(bytes)));
+                });
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        onCaptured.accept(new CapturedResponse(getStatusCode(), copyHeaders(), new byte[0]));
+        return super.setComplete();
+    }
+
+    private HttpHeaders copyHeaders() {
+        HttpHeaders copy = new HttpHeaders();
+        getHeaders().forEach((name, values) -> {
+            if (EXCLUDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                copy.put(name, List.copyOf(values));
+            }
+        });
+        return copy;
+    }
+}
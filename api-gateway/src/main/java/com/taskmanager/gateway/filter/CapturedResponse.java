@@ -0,0 +1,21 @@
+package com.taskmanager.gateway.filter;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * A fully buffered downstream response that can be replayed to other clients
+ */
+record CapturedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+    Mono<Void> writeTo(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().putAll(headers);
+        if (body.length == 0) {
+            return response.setComplete();
+        }
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -1,9 +1,12 @@
 package com.taskmanager.gateway.filter;
 
-import com.taskmanager.gateway.util.JwtUtil;
+import com.taskmanager.gateway.util.ForwardedIdentity;
+import com.taskmanager.gateway.util.ForwardedIdentityResolver;
+import com.taskmanager.gateway.util.PathPrefixMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -12,17 +15,21 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 /**
  * JWT Authentication Filter for API Gateway
  * Validates JWT tokens before routing requests to downstream services
+ *
+ * Runs on the event loop for every request: the public-endpoint check is a precompiled
+ * trie, and a token is verified, parsed and signed once, then reused from cache.
  */
 @Component
 public class JwtAuthenticationFilter implements GatewayFilter {
 
-    @Autowired
-    private JwtUtil jwtUtil;
+    /**
+     * Exchange attribute holding the verified user id, for filters that run after this one
+     */
+    public static final String AUTHENTICATED_USER_ID_ATTR = JwtAuthenticationFilter.class.getName() + ".userId";
 
     // Public endpoints that don't require authentication
     private static final List<String> PUBLIC_ENDPOINTS = List.of(
@@ -30,60 +37,48 @@ public class JwtAuthenticationFilter implements GatewayFilter {
             "/api/auth/login"
     );
 
+    private static final PathPrefixMatcher PUBLIC_ENDPOINT_MATCHER = PathPrefixMatcher.of(PUBLIC_ENDPOINTS);
+
+    @Autowired
+    private ForwardedIdentityResolver forwardedIdentityResolver;
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         ServerHttpRequest request = exchange.getRequest();
-        
+
         // Check if the request path is a public endpoint
-        if (isPublicEndpoint(request.getPath().toString())) {
+        if (PUBLIC_ENDPOINT_MATCHER.matches(request.getPath().value())) {
             return chain.filter(exchange);
         }
 
         // Extract Authorization header
-        if (!request.getHeaders().containsKey("Authorization")) {
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null) {
             return onError(exchange, "Authorization header is missing", HttpStatus.UNAUTHORIZED);
         }
 
-        String authHeader = request.getHeaders().getFirst("Authorization");
-        
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (!authHeader.startsWith(ForwardedIdentityResolver.BEARER_PREFIX)) {
             return onError(exchange, "Invalid authorization header format", HttpStatus.UNAUTHORIZED);
         }
 
-        // Extract token
-        String token = authHeader.substring(7);
-
+        ForwardedIdentity identity;
         try {
-            // Validate token
-            if (!jwtUtil.validateToken(token)) {
-                return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
-            }
-
-            // Extract user information and add to headers for downstream services
-            String email = jwtUtil.extractEmail(token);
-            String role = jwtUtil.extractRole(token);
-            Long userId = jwtUtil.extractUserId(token);
-
-            // Add user info to request headers
-            ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
-                    .header("X-User-Email", email)
-                    .header("X-User-Role", role)
-                    .header("X-User-Id", String.valueOf(userId))
-                    .build();
-
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
-
+            identity = forwardedIdentityResolver.resolve(authHeader);
         } catch (Exception e) {
             return onError(exchange, "Token validation failed: " + e.getMessage(), HttpStatus.UNAUTHORIZED);
         }
-    }
 
-    /**
-     * Check if the request path is a public endpoint
-     */
-    private boolean isPublicEndpoint(String path) {
-        return PUBLIC_ENDPOINTS.stream()
-                .anyMatch(path::startsWith);
+        if (identity == null) {
+            return onError(exchange, "Invalid or expired token", HttpStatus.UNAUTHORIZED);
+        }
+
+        // Add signed user info to request headers in one mutation, replacing anything the client sent
+        ServerHttpRequest modifiedRequest = request.mutate()
+                .headers(identity::applyTo)
+                .build();
+
+        exchange.getAttributes().put(AUTHENTICATED_USER_ID_ATTR, identity.getUserId());
+        return chain.filter(exchange.mutate().request(modifiedRequest).build());
     }
 
     /**
@@ -94,4 +89,4 @@ public class JwtAuthenticationFilter implements GatewayFilter {
         response.setStatusCode(status);
         return response.setComplete();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,98 @@
+package com.taskmanager.gateway.filter;
+
+import com.taskmanager.gateway.ratelimit.RateLimitDecision;
+import com.taskmanager.gateway.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Per-user token bucket rate limiting
+ * Runs after JwtAuthenticationFilter and keys buckets by the user id it verified;
+ * unauthenticated (public) requests are keyed by client address instead
+ */
+@Slf4j
+@Component
+public class RateLimitFilter implements GatewayFilter {
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private static final RateLimitDecision FAIL_OPEN = RateLimitDecision.allow(-1);
+
+    @Autowired
+    private TokenBucketRateLimiter rateLimiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${gateway.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        if (!enabled) {
+            return chain.filter(exchange);
+        }
+
+        return rateLimiter.tryConsume(resolveKey(exchange))
+                .onErrorResume(e -> {
+                    // Fail open: an unavailable limiter backend must not take the gateway down with it
+                    log.warn("Rate limiter unavailable, allowing request: {}", e.getMessage());
+                    meterRegistry.counter("gateway.rate.limit.errors").increment();
+                    return Mono.just(FAIL_OPEN);
+                })
+                .flatMap(decision -> {
+                    if (decision.allowed()) {
+                        if (decision != FAIL_OPEN) {
+                            exchange.getResponse().getHeaders().set(REMAINING_HEADER, String.valueOf(decision.remaining()));
+                        }
+                        return chain.filter(exchange);
+                    }
+                    return reject(exchange, decision);
+                });
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, RateLimitDecision decision) {
+        Counter.builder("gateway.requests.rate.limited")
+                .description("Requests rejected by the per-user token bucket")
+                .tag("route", routeId(exchange))
+                .register(meterRegistry)
+                .increment();
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+        response.getHeaders().set(REMAINING_HEADER, "0");
+        response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, (decision.retryAfterMillis() + 999) / 1000)));
+        return response.setComplete();
+    }
+
+    private String resolveKey(ServerWebExchange exchange) {
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+        return "ip:" + (remoteAddress != null ? remoteAddress.getHostString() : "unknown");
+    }
+
+    static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        return route != null ? route.getId() : "unknown";
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanager.gateway.filter;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Single-flight coalescing for hot read endpoints
+ * While a GET is in flight, identical GETs from the same user wait for it and
+ * receive a copy of its response instead of making their own downstream call.
+ * If the shared call fails or is cancelled, waiting requests go downstream themselves.
+ */
+@Slf4j
+@Component
+public class RequestCoalescingFilter implements GatewayFilter {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${gateway.coalescing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gateway.coalescing.paths:/api/tasks/my,/api/tasks/overdue,/api/notifications/unread-count}")
+    private List<String> paths;
+
+    private final Map<String, Mono<CapturedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR);
+        if (!enabled || userId == null || request.getMethod() != HttpMethod.GET
+                || !paths.contains(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        String key = coalescingKey(userId, request);
+        Sinks.One<CapturedResponse> sink = Sinks.one();
+        Mono<CapturedResponse> shared = sink.asMono();
+        Mono<CapturedResponse> existing = inFlight.putIfAbsent(key, shared);
+
+        if (existing != null) {
+            Counter.builder("gateway.requests.coalesced")
+                    .description("GET requests served from an identical in-flight request")
+                    .tag("route", RateLimitFilter.routeId(exchange))
+                    .register(meterRegistry)
+                    .increment();
+            // Span-only tag: the downstream call belongs to the trace of the request being joined
+            ServerRequestObservationContext.findCurrent(exchange.getAttributes())
+                    .ifPresent(context -> context.addHighCardinalityKeyValue(KeyValue.of("gateway.response", "coalesced")));
+            return existing
+                    .map(Optional::of)
+                    .onErrorResume(e -> {
+                        log.debug("Shared request for {} failed, going downstream: {}", key, e.getMessage());
+                        return Mono.just(Optional.empty());
+                    })
+                    .flatMap(response -> response.isPresent()
+                            ? response.get().writeTo(exchange.getResponse())
+                            : chain.filter(exchange));
+        }
+
+        BodyCapturingResponse capturing = new BodyCapturingResponse(exchange.getResponse(), sink::tryEmitValue);
+        return chain.filter(exchange.mutate().response(capturing).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, shared);
+                    sink.tryEmitError(new IllegalStateException("Shared request ended without a response: " + signal));
+                });
+    }
+
+    private static String coalescingKey(String userId, ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+        String accept = request.getHeaders().getFirst(HttpHeaders.ACCEPT);
+        return userId + ' ' + request.getPath().value()
+                + (query != null ? '?' + query : "")
+                + ' ' + (accept != null ? accept : "");
+    }
+}
@@ -0,0 +1,199 @@
+package com.taskmanager.gateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Short-lived cache of successful GET responses on designated paths, per user
+ * Hits are answered at the gateway (304 when If-None-Match matches the cached ETag).
+ * Keys carry the generation of their scope: a project's views its project, everything else
+ * (listings, notifications) its user. Invalidation bumps a generation in O(1) instead of scanning
+ * the cache; superseded entries are never read again and age out with the TTL.
+ * Writes passing through this gateway invalidate the project and the writer; task-events
+ * (see TaskEventCacheInvalidator) cover writes made through other instances. Other users'
+ * cross-project listings are not invalidated by a project change and may lag it by up to the TTL.
+ */
+@Slf4j
+@Component
+public class ResponseCacheFilter implements GatewayFilter {
+
+    public static final String CACHE_STATUS_HEADER = "X-Cache";
+
+    private static final Pattern PROJECT_PATH = Pattern.compile("^/api/projects/(\\d+)(/.*)?$");
+    private static final String PROJECT_SCOPE = "project:";
+    private static final String USER_SCOPE = "user:";
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${gateway.response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${gateway.response-cache.ttl-seconds:10}")
+    private long ttlSeconds;
+
+    @Value("${gateway.response-cache.max-size-mb:64}")
+    private long maxSizeMb;
+
+    @Value("${gateway.response-cache.max-entry-kb:256}")
+    private int maxEntryKb;
+
+    @Value("${gateway.response-cache.paths:/api/projects/**,/api/tasks/**,/api/notifications,/api/notifications/feed}")
+    private List<String> paths;
+
+    private List<PathPattern> pathPatterns;
+
+    private Cache<CacheKey, CapturedResponse> cache;
+
+    // Unique values from one counter, so a scope dropped here and bumped again never reuses a generation
+    private final AtomicLong generationCounter = new AtomicLong();
+
+    private Cache<String, Long> generations;
+
+    @PostConstruct
+    void init() {
+        pathPatterns = paths.stream()
+                .map(PathPatternParser.defaultInstance::parse)
+                .toList();
+        cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeMb * 1024 * 1024)
+                .weigher((CacheKey key, CapturedResponse response) -> response.body().length + key.path().length() + 256)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response.cache");
+        // Entries older than the TTL are gone, so an expired generation only costs a spurious miss
+        generations = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        String userId = exchange.getAttribute(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR);
+        if (!enabled || userId == null) {
+            return chain.filter(exchange);
+        }
+
+        String path = request.getPath().value();
+        if (request.getMethod() != HttpMethod.GET) {
+            return chain.filter(exchange)
+                    .doOnSuccess(done -> invalidateAfterWrite(userId, path));
+        }
+        if (!isCacheable(request)) {
+            return chain.filter(exchange);
+        }
+
+        String scope = scopeOf(userId, path);
+        CacheKey key = new CacheKey(userId, path, request.getURI().getRawQuery(),
+                request.getHeaders().getFirst(HttpHeaders.ACCEPT), scope, generationOf(scope));
+        CapturedResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return serveFromCache(exchange, cached);
+        }
+
+        exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+        long maxEntryBytes = maxEntryKb * 1024L;
+        BodyCapturingResponse capturing = new BodyCapturingResponse(exchange.getResponse(), response -> {
+            String cacheControl = response.headers().getCacheControl();
+            if (HttpStatus.OK.equals(response.status()) && response.body().length <= maxEntryBytes
+                    && (cacheControl == null || !cacheControl.contains("no-store"))) {
+                cache.put(key, response);
+            }
+        });
+        return chain.filter(exchange.mutate().response(capturing).build());
+    }
+
+    /**
+     * Drop cached views of a project for every user
+     */
+    public void invalidateProject(Long projectId) {
+        bump(PROJECT_SCOPE + projectId);
+    }
+
+    /**
+     * Drop a user's cached listings and notifications
+     */
+    public void invalidateUser(String userId) {
+        bump(USER_SCOPE + userId);
+    }
+
+    private void invalidateAfterWrite(String userId, String path) {
+        Matcher matcher = PROJECT_PATH.matcher(path);
+        if (matcher.matches()) {
+            invalidateProject(Long.valueOf(matcher.group(1)));
+        }
+        invalidateUser(userId);
+    }
+
+    private static String scopeOf(String userId, String path) {
+        Matcher matcher = PROJECT_PATH.matcher(path);
+        return matcher.matches() ? PROJECT_SCOPE + matcher.group(1) : USER_SCOPE + userId;
+    }
+
+    private long generationOf(String scope) {
+        Long generation = generations.getIfPresent(scope);
+        return generation != null ? generation : 0L;
+    }
+
+    private void bump(String scope) {
+        generations.put(scope, generationCounter.incrementAndGet());
+    }
+
+    private boolean isCacheable(ServerHttpRequest request) {
+        String cacheControl = request.getHeaders().getCacheControl();
+        if (cacheControl != null && cacheControl.contains("no-cache")) {
+            return false;
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        return pathPatterns.stream().anyMatch(pattern -> pattern.matches(path));
+    }
+
+    private Mono<Void> serveFromCache(ServerWebExchange exchange, CapturedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.getHeaders().set(CACHE_STATUS_HEADER, "HIT");
+        // Span-only tag: explains why this request's trace has no downstream call
+        ServerRequestObservationContext.findCurrent(exchange.getAttributes())
+                .ifPresent(context -> context.addHighCardinalityKeyValue(KeyValue.of("gateway.response", "cache-hit")));
+
+        String etag = cached.headers().getETag();
+        List<String> ifNoneMatch = exchange.getRequest().getHeaders().getIfNoneMatch();
+        if (etag != null && (ifNoneMatch.contains(etag) || ifNoneMatch.contains("*"))) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().setETag(etag);
+            return response.setComplete();
+        }
+        return cached.writeTo(response);
+    }
+
+    private record CacheKey(String userId, String path, String query, String accept, String scope, long generation) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskmanager.gateway.kafka;
+
+import com.taskmanager.gateway.kafka.dto.TaskEvent;
+import com.taskmanager.gateway.kafka.serde.TaskEventDeserializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    /**
+     * Unique per running instance and stable across its restarts, so a restart rejoins its own
+     * consumer group instead of leaving one behind on the broker; defaults to host and port
+     */
+    @Value("${spring.application.instance_id:${spring.cloud.client.hostname}-${server.port:8080}}")
+    private String instanceId;
+
+    @Value("${task-events.read-json:true}")
+    private boolean readJson;
+
+    /**
+     * Every gateway instance keeps its own response cache, so every instance needs every
+     * task-event: use a consumer group per instance (by instance id) and start from the latest offset.
+     */
+    @Bean
+    public ConsumerFactory<String, TaskEvent> consumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "api-gateway-response-cache-" + instanceId);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        // Unreadable records arrive as null values instead of failing the poll forever
+        DefaultKafkaConsumerFactory<String, TaskEvent> factory = new DefaultKafkaConsumerFactory<>(config,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new TaskEventDeserializer(readJson, meterRegistry)));
+        // Client metrics, including records-lag-max per partition, as kafka.consumer.* meters
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, TaskEvent> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, TaskEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        // Invalidations run as consumer spans in the trace of the request that changed the task
+        factory.getContainerProperties().setObservationEnabled(true);
+        return factory;
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.gateway.kafka;
+
+import com.taskmanager.gateway.filter.ResponseCacheFilter;
+import com.taskmanager.gateway.kafka.dto.TaskEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates cached gateway responses made stale by task changes: the task's project views
+ * for every user, and the assignee's listings and notifications (a notification is created per event)
+ */
+@Slf4j
+@Component
+public class TaskEventCacheInvalidator {
+
+    @Autowired
+    private ResponseCacheFilter responseCacheFilter;
+
+    @KafkaListener(topics = "task-events", autoStartup = "${gateway.response-cache.enabled:true}")
+    public void onTaskEvent(@Payload(required = false) TaskEvent event) {
+        if (event == null) {
+            return;
+        }
+        if (event.getProjectId() != null) {
+            responseCacheFilter.invalidateProject(event.getProjectId());
+        }
+        if (event.getAssigneeId() != null) {
+            responseCacheFilter.invalidateUser(String.valueOf(event.getAssigneeId()));
+        }
+        log.debug("Invalidated cached responses for {} on task {}", event.getEventType(), event.getTaskId());
+    }
+}
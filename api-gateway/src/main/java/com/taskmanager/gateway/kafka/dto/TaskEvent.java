@@ -0,0 +1,21 @@
+package com.taskmanager.gateway.kafka.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEvent {
+    private String eventType; // TASK_CREATED, TASK_ASSIGNED, TASK_UPDATED, TASK_COMPLETED
+    private Long taskId;
+    private String taskTitle;
+    private Long assigneeId;
+    private String assigneeName;
+    private Long projectId;
+    private String projectName;
+    private LocalDateTime timestamp;
+}
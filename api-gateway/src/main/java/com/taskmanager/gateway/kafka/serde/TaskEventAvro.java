@@ -0,0 +1,107 @@
+package com.taskmanager.gateway.kafka.serde;
+
+import com.taskmanager.gateway.kafka.dto.TaskEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Avro binary encoding of task-events values, in Avro's single-object format: a two-byte
+ * marker and the writer schema's fingerprint, then the field values without names. Every
+ * published schema version is bundled under avro/ and registered with the decoder, so a
+ * record written with any of them is resolved into the current version.
+ */
+public final class TaskEventAvro {
+
+    /**
+     * Oldest first; the last one is written and read into. A new version must reach every
+     * consumer before a producer writes it, since unknown fingerprints cannot be resolved.
+     */
+    private static final List<String> SCHEMA_VERSIONS = List.of("avro/task-event-v1.avsc");
+
+    // Single-object encoding marker (Avro specification)
+    private static final byte MARKER_0 = (byte) 0xC3;
+    private static final byte MARKER_1 = (byte) 0x01;
+
+    private static final Schema SCHEMA;
+    private static final BinaryMessageEncoder<GenericRecord> ENCODER;
+    private static final BinaryMessageDecoder<GenericRecord> DECODER;
+
+    static {
+        List<Schema> versions = SCHEMA_VERSIONS.stream().map(TaskEventAvro::load).toList();
+        SCHEMA = versions.get(versions.size() - 1);
+        ENCODER = new BinaryMessageEncoder<>(GenericData.get(), SCHEMA);
+        DECODER = new BinaryMessageDecoder<>(GenericData.get(), SCHEMA);
+        versions.forEach(DECODER::addSchema);
+    }
+
+    private TaskEventAvro() {
+    }
+
+    /**
+     * True for single-object Avro; JSON values start with '{' and never match
+     */
+    public static boolean isAvro(byte[] data) {
+        return data.length > 2 && data[0] == MARKER_0 && data[1] == MARKER_1;
+    }
+
+    public static byte[] encode(TaskEvent event) throws IOException {
+        GenericRecord record = new GenericData.Record(SCHEMA);
+        record.put("eventType", event.getEventType());
+        record.put("taskId", event.getTaskId());
+        record.put("taskTitle", event.getTaskTitle());
+        record.put("assigneeId", event.getAssigneeId());
+        record.put("assigneeName", event.getAssigneeName());
+        record.put("projectId", event.getProjectId());
+        record.put("projectName", event.getProjectName());
+        record.put("timestamp", event.getTimestamp() != null ? toMicros(event.getTimestamp()) : null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        ENCODER.encode(record, out);
+        return out.toByteArray();
+    }
+
+    public static TaskEvent decode(byte[] data) throws IOException {
+        GenericRecord record = DECODER.decode(data);
+        Long timestamp = (Long) record.get("timestamp");
+        return new TaskEvent(
+                (String) record.get("eventType"),
+                (Long) record.get("taskId"),
+                (String) record.get("taskTitle"),
+                (Long) record.get("assigneeId"),
+                (String) record.get("assigneeName"),
+                (Long) record.get("projectId"),
+                (String) record.get("projectName"),
+                timestamp != null ? fromMicros(timestamp) : null);
+    }
+
+    private static long toMicros(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + timestamp.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static Schema load(String resource) {
+        try (InputStream in = TaskEventAvro.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException(resource + " not found on the classpath");
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
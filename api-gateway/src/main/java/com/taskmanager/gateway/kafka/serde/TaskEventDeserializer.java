@@ -0,0 +1,51 @@
+package com.taskmanager.gateway.kafka.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.gateway.kafka.dto.TaskEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.avro.AvroRuntimeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.IOException;
+
+/**
+ * Reads task-events values in both wire formats: Avro ({@link TaskEventAvro}), recognised by
+ * its marker bytes, and - during the transition, with task-events.read-json - the JSON written
+ * before. taskmanager.task.events.read{format=json} shows when JSON records stopped arriving.
+ */
+public class TaskEventDeserializer implements Deserializer<TaskEvent> {
+
+    private final boolean readJson;
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+    private final Counter avroRecords;
+    private final Counter jsonRecords;
+
+    public TaskEventDeserializer(boolean readJson, MeterRegistry meterRegistry) {
+        this.readJson = readJson;
+        this.avroRecords = meterRegistry.counter("taskmanager.task.events.read", "format", "avro");
+        this.jsonRecords = meterRegistry.counter("taskmanager.task.events.read", "format", "json");
+    }
+
+    @Override
+    public TaskEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            if (TaskEventAvro.isAvro(data)) {
+                avroRecords.increment();
+                return TaskEventAvro.decode(data);
+            }
+            if (readJson) {
+                jsonRecords.increment();
+                return objectMapper.readValue(data, TaskEvent.class);
+            }
+        } catch (IOException | AvroRuntimeException e) {
+            throw new SerializationException("Unreadable task event on " + topic, e);
+        }
+        throw new SerializationException("Task event on " + topic + " is not Avro and task-events.read-json is off");
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskmanager.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets held in this gateway instance; limits are per instance, so with
+ * N gateways a user can reach N times the configured rate
+ */
+public class InMemoryTokenBucketRateLimiter implements TokenBucketRateLimiter {
+
+    private final long capacity;
+    private final double replenishPerNano;
+
+    /**
+     * An idle bucket is full again after capacity / rate seconds, so evicting it
+     * after that long is indistinguishable from keeping it
+     */
+    private final Cache<String, Bucket> buckets;
+
+    private final LongSupplier nanoClock;
+
+    public InMemoryTokenBucketRateLimiter(long capacity, double replenishPerSecond, long maxKeys) {
+        this(capacity, replenishPerSecond, maxKeys, System::nanoTime);
+    }
+
+    InMemoryTokenBucketRateLimiter(long capacity, double replenishPerSecond, long maxKeys, LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.capacity = capacity;
+        this.replenishPerNano = replenishPerSecond / 1_000_000_000d;
+        long refillSeconds = (long) Math.ceil(capacity / replenishPerSecond);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(Duration.ofSeconds(refillSeconds + 1))
+                .build();
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key) {
+        Bucket bucket = buckets.get(key, k -> new Bucket(capacity, nanoClock.getAsLong()));
+        return Mono.just(bucket.tryConsume(nanoClock.getAsLong()));
+    }
+
+    private final class Bucket {
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(double tokens, long now) {
+            this.tokens = tokens;
+            this.lastRefillNanos = now;
+        }
+
+        private synchronized RateLimitDecision tryConsume(long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * replenishPerNano);
+                lastRefillNanos = now;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return RateLimitDecision.allow((long) tokens);
+            }
+            long waitNanos = (long) Math.ceil((1 - tokens) / replenishPerNano);
+            return RateLimitDecision.reject(Math.max(1, waitNanos / 1_000_000));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskmanager.gateway.ratelimit;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection to the rate limit server, opened in the background and retried until it
+ * succeeds, so the gateway starts and serves while the server is unreachable. Once open,
+ * Lettuce reconnects it on its own; this only covers the first connect.
+ */
+@Slf4j
+public class LazyRedisConnection implements AutoCloseable {
+
+    private final RedisClient client;
+    private final RedisURI uri;
+    private final Duration retryDelay;
+
+    private volatile StatefulRedisConnection<String, String> connection;
+    private volatile boolean closed;
+
+    public LazyRedisConnection(RedisClient client, RedisURI uri, Duration retryDelay) {
+        this.client = client;
+        this.uri = uri;
+        this.retryDelay = retryDelay;
+        connect();
+    }
+
+    /**
+     * Commands of the open connection, empty until the first connect succeeded
+     */
+    public Optional<RedisReactiveCommands<String, String>> commands() {
+        StatefulRedisConnection<String, String> current = connection;
+        return current != null ? Optional.of(current.reactive()) : Optional.empty();
+    }
+
+    private void connect() {
+        client.connectAsync(StringCodec.UTF8, uri).whenComplete((opened, error) -> {
+            if (error != null) {
+                if (!closed) {
+                    log.warn("Rate limit server {} unreachable, retrying in {}: {}", uri, retryDelay, error.getMessage());
+                    CompletableFuture.delayedExecutor(retryDelay.toMillis(), TimeUnit.MILLISECONDS)
+                            .execute(this::connect);
+                }
+                return;
+            }
+            if (closed) {
+                opened.close();
+                return;
+            }
+            connection = opened;
+            log.info("Connected to rate limit server {}", uri);
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        StatefulRedisConnection<String, String> current = connection;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
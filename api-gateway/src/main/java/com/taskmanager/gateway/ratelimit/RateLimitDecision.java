@@ -0,0 +1,19 @@
+package com.taskmanager.gateway.ratelimit;
+
+/**
+ * Outcome of taking one token from a bucket
+ *
+ * @param allowed          whether the request may proceed
+ * @param remaining        whole tokens left after this request
+ * @param retryAfterMillis time until the next token, when rejected
+ */
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterMillis) {
+
+    public static RateLimitDecision allow(long remaining) {
+        return new RateLimitDecision(true, remaining, 0);
+    }
+
+    public static RateLimitDecision reject(long retryAfterMillis) {
+        return new RateLimitDecision(false, 0, retryAfterMillis);
+    }
+}
@@ -0,0 +1,87 @@
+package com.taskmanager.gateway.ratelimit;
+
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Token buckets kept in Redis (or any server speaking its protocol and Lua), so
+ * the limit is shared by every gateway instance. Refill and take happen in one
+ * script using the server clock, which keeps instances with skewed clocks honest.
+ * Until the first connection to the server is open, the per-instance fallback limits instead.
+ */
+public class RedisTokenBucketRateLimiter implements TokenBucketRateLimiter {
+
+    private static final String KEY_PREFIX = "gateway:rate-limit:";
+
+    private static final String SCRIPT = """
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            local allowed = 0
+            local retry = 0
+            if tokens >= 1 then
+              tokens = tokens - 1
+              allowed = 1
+            else
+              retry = math.ceil((1 - tokens) * 1000 / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+            return {allowed, math.floor(tokens), retry}
+            """;
+
+    private final Supplier<Optional<RedisReactiveCommands<String, String>>> commands;
+    private final TokenBucketRateLimiter fallback;
+    private final String[] args;
+    private final String scriptSha;
+
+    public RedisTokenBucketRateLimiter(Supplier<Optional<RedisReactiveCommands<String, String>>> commands,
+                                       long capacity, double replenishPerSecond, TokenBucketRateLimiter fallback) {
+        this.commands = commands;
+        this.fallback = fallback;
+        this.args = new String[] { String.valueOf(capacity), String.valueOf(replenishPerSecond) };
+        this.scriptSha = sha1Hex(SCRIPT);
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key) {
+        Optional<RedisReactiveCommands<String, String>> connected = commands.get();
+        if (connected.isEmpty()) {
+            return fallback.tryConsume(key);
+        }
+        RedisReactiveCommands<String, String> commands = connected.get();
+        String[] keys = { KEY_PREFIX + key };
+        return commands.<List<Long>>evalsha(scriptSha, ScriptOutputType.MULTI, keys, args)
+                // First call after a server restart: send the body, which also caches it
+                .onErrorResume(RedisNoScriptException.class,
+                        e -> commands.eval(SCRIPT, ScriptOutputType.MULTI, keys, args))
+                .next()
+                .map(result -> result.get(0) == 1L
+                        ? RateLimitDecision.allow(result.get(1))
+                        : RateLimitDecision.reject(result.get(2)));
+    }
+
+    private static String sha1Hex(String script) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return HexFormat.of().formatHex(digest.digest(script.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 not available", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanager.gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Per-key token bucket: each key holds up to {@code capacity} tokens and regains
+ * {@code replenishPerSecond} tokens per second; every request takes one token
+ */
+public interface TokenBucketRateLimiter {
+
+    Mono<RateLimitDecision> tryConsume(String key);
+}
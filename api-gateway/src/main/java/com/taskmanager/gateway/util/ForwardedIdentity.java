@@ -0,0 +1,55 @@
+package com.taskmanager.gateway.util;
+
+import org.springframework.http.HttpHeaders;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Signed identity headers derived from one token. Header values are built once as
+ * immutable lists and shared by every request carrying the same token.
+ */
+public final class ForwardedIdentity {
+
+    private final String userId;
+    private final long expiresAtMillis;
+
+    private final List<String> userIdValue;
+    private final List<String> roleValue;
+    private final List<String> emailValue;
+    private final List<String> expiresValue;
+    private final List<String> signatureValue;
+
+    public ForwardedIdentity(String userId, String role, String email, long expiresAtMillis, String signature) {
+        this.userId = userId;
+        this.expiresAtMillis = expiresAtMillis;
+        this.userIdValue = Collections.singletonList(userId);
+        this.roleValue = Collections.singletonList(role);
+        this.emailValue = Collections.singletonList(email);
+        this.expiresValue = Collections.singletonList(String.valueOf(expiresAtMillis / 1000));
+        this.signatureValue = Collections.singletonList(signature);
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    public long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    /**
+     * Set the identity headers, replacing anything the client sent
+     */
+    public void applyTo(HttpHeaders headers) {
+        headers.put(IdentityHeaderSigner.USER_EMAIL_HEADER, emailValue);
+        headers.put(IdentityHeaderSigner.USER_ROLE_HEADER, roleValue);
+        headers.put(IdentityHeaderSigner.USER_ID_HEADER, userIdValue);
+        headers.put(IdentityHeaderSigner.EXPIRES_HEADER, expiresValue);
+        headers.put(IdentityHeaderSigner.SIGNATURE_HEADER, signatureValue);
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskmanager.gateway.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turns a bearer Authorization header into the signed identity forwarded downstream.
+ * Verification, claim extraction and HMAC signing happen once per token; later requests
+ * with the same header are a single cache lookup keyed by the header value itself.
+ */
+@Component
+public class ForwardedIdentityResolver {
+
+    public static final String BEARER_PREFIX = "Bearer ";
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private IdentityHeaderSigner identityHeaderSigner;
+
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    private Cache<String, ForwardedIdentity> identities;
+
+    @PostConstruct
+    void init() {
+        identities = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new IdentityExpiry())
+                .build();
+    }
+
+    /**
+     * Identity for an Authorization header starting with {@link #BEARER_PREFIX}.
+     * Returns null when the token is expired; throws when it cannot be verified.
+     */
+    public ForwardedIdentity resolve(String authorizationHeader) {
+        ForwardedIdentity identity = identities.getIfPresent(authorizationHeader);
+        if (identity == null) {
+            identity = create(authorizationHeader.substring(BEARER_PREFIX.length()));
+            if (identity == null) {
+                return null;
+            }
+            identities.put(authorizationHeader, identity);
+        }
+        return identity.isExpired(System.currentTimeMillis()) ? null : identity;
+    }
+
+    private ForwardedIdentity create(String token) {
+        Claims claims = jwtUtil.parseClaims(token);
+        if (!jwtUtil.isValid(claims)) {
+            return null;
+        }
+
+        String email = claims.getSubject();
+        String role = claims.get("role", String.class);
+        String userId = String.valueOf(claims.get("userId", Long.class));
+        long expiresAtMillis = claims.getExpiration().getTime();
+        String signature = identityHeaderSigner.sign(userId, role, email, expiresAtMillis / 1000);
+        return new ForwardedIdentity(userId, role, email, expiresAtMillis, signature);
+    }
+
+    /**
+     * Cached identities live exactly as long as the token they came from
+     */
+    private static class IdentityExpiry implements Expiry<String, ForwardedIdentity> {
+
+        @Override
+        public long expireAfterCreate(String key, ForwardedIdentity identity, long currentTime) {
+            long millis = identity.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ForwardedIdentity identity, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, ForwardedIdentity identity, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskmanager.gateway.util;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * Signs the identity headers the gateway forwards to downstream services.
+ *
+ * Downstream services running in gateway-trusted mode recompute the HMAC over
+ * the same canonical string and only then trust X-User-* instead of re-verifying the JWT.
+ */
+@Component
+public class IdentityHeaderSigner {
+
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USER_ROLE_HEADER = "X-User-Role";
+    public static final String USER_EMAIL_HEADER = "X-User-Email";
+    public static final String EXPIRES_HEADER = "X-User-Expires";
+    public static final String SIGNATURE_HEADER = "X-User-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${gateway.identity.secret:${jwt.secret}}")
+    private String secret;
+
+    private SecretKeySpec keySpec;
+
+    // Mac instances are not thread-safe; keep one per event-loop thread
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    @PostConstruct
+    void init() {
+        keySpec = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * Sign the identity; expiresAt is the token expiry in epoch seconds
+     */
+    public String sign(String userId, String role, String email, long expiresAt) {
+        String canonical = userId + '\n' + role + '\n' + email + '\n' + expiresAt;
+        byte[] signature = macs.get().doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + ALGORITHM, e);
+        }
+    }
+}
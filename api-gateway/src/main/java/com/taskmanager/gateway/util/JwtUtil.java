@@ -1,8 +1,8 @@
 package com.taskmanager.gateway.util;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -21,23 +21,43 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String secret;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    private SecretKey signingKey;
+
+    // Verification and the claims cache are shared with the other services' JwtUtil
+    private JwtClaimsCache claimsCache;
+
+    /**
+     * Build the signing key, parser and claims cache once at startup
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        claimsCache = new JwtClaimsCache(signingKey, claimsCacheMaxSize);
+    }
+
     /**
      * Get signing key from secret
      */
     private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
+    }
+
+    /**
+     * Parse and verify the token once, returning all claims.
+     * Repeated calls for the same token are served from the claims cache.
+     */
+    public Claims parseClaims(String token) {
+        return claimsCache.parse(token);
     }
 
     /**
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parseClaims(token);
     }
 
     /**
@@ -101,4 +121,11 @@ public class JwtUtil {
         final String tokenEmail = extractEmail(token);
         return (tokenEmail.equals(email) && !isTokenExpired(token));
     }
-}
\ No newline at end of file
+
+    /**
+     * Validate already parsed claims
+     */
+    public boolean isValid(Claims claims) {
+        return claimsCache.isValid(claims);
+    }
+}
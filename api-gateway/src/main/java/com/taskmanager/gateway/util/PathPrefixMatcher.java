@@ -0,0 +1,107 @@
+package com.taskmanager.gateway.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable radix trie answering "does this path start with any of the prefixes".
+ * Shared leading text is compared once (e.g. "/api/auth/" for all auth endpoints), then
+ * one child is picked by its first character; a lookup allocates nothing.
+ */
+public final class PathPrefixMatcher {
+
+    private final Node root;
+
+    private PathPrefixMatcher(Node root) {
+        this.root = root;
+    }
+
+    public static PathPrefixMatcher of(Collection<String> prefixes) {
+        return new PathPrefixMatcher(build("", List.copyOf(prefixes)));
+    }
+
+    public boolean matches(String path) {
+        Node node = root;
+        int offset = 0;
+        while (true) {
+            String label = node.label;
+            if (!path.startsWith(label, offset)) {
+                return false;
+            }
+            offset += label.length();
+            if (node.terminal) {
+                return true;
+            }
+            if (offset == path.length()) {
+                return false;
+            }
+            node = node.child(path.charAt(offset));
+            if (node == null) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Node for a group of prefixes (relative to the parent) that all start with the same character
+     */
+    private static Node build(String label, List<String> suffixes) {
+        if (suffixes.contains("")) {
+            return new Node(label, true, new char[0], new Node[0]);
+        }
+        String common = commonPrefix(suffixes);
+        List<List<String>> groups = new ArrayList<>();
+        List<Character> firsts = new ArrayList<>();
+        for (String suffix : suffixes) {
+            String rest = suffix.substring(common.length());
+            if (rest.isEmpty()) {
+                return new Node(label + common, true, new char[0], new Node[0]);
+            }
+            int index = firsts.indexOf(rest.charAt(0));
+            if (index < 0) {
+                firsts.add(rest.charAt(0));
+                groups.add(new ArrayList<>());
+                index = firsts.size() - 1;
+            }
+            groups.get(index).add(rest);
+        }
+
+        char[] childFirsts = new char[firsts.size()];
+        Node[] children = new Node[firsts.size()];
+        for (int i = 0; i < children.length; i++) {
+            String childCommon = commonPrefix(groups.get(i));
+            List<String> childSuffixes = groups.get(i).stream()
+                    .map(suffix -> suffix.substring(childCommon.length()))
+                    .toList();
+            childFirsts[i] = firsts.get(i);
+            children[i] = build(childCommon, childSuffixes);
+        }
+        return new Node(label + common, false, childFirsts, children);
+    }
+
+    private static String commonPrefix(List<String> values) {
+        String common = values.get(0);
+        for (String value : values) {
+            int length = 0;
+            int max = Math.min(common.length(), value.length());
+            while (length < max && common.charAt(length) == value.charAt(length)) {
+                length++;
+            }
+            common = common.substring(0, length);
+        }
+        return common;
+    }
+
+    private record Node(String label, boolean terminal, char[] firsts, Node[] children) {
+
+        private Node child(char c) {
+            for (int i = 0; i < firsts.length; i++) {
+                if (firsts[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskmanager.gateway.filter;
+
+import com.taskmanager.gateway.ratelimit.RateLimitDecision;
+import com.taskmanager.gateway.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitFilter filter = new RateLimitFilter();
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        downstreamCalls.incrementAndGet();
+        return Mono.empty();
+    };
+
+    private final AtomicReference<String> consumedKey = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+    }
+
+    @Test
+    void allowedRequestReportsRemainingTokens() {
+        useLimiter(Mono.just(RateLimitDecision.allow(7)));
+        MockServerWebExchange exchange = exchange("42");
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(downstreamCalls).hasValue(1);
+        assertThat(consumedKey).hasValue("user:42");
+        assertThat(exchange.getResponse().getHeaders().getFirst(RateLimitFilter.REMAINING_HEADER)).isEqualTo("7");
+    }
+
+    @Test
+    void rejectedRequestGets429WithRetryAfterRoundedUp() {
+        useLimiter(Mono.just(RateLimitDecision.reject(1_200)));
+        MockServerWebExchange exchange = exchange("42");
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(downstreamCalls).hasValue(0);
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(meterRegistry.get("gateway.requests.rate.limited").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void failsOpenWhenTheLimiterErrors() {
+        useLimiter(Mono.error(new IllegalStateException("redis down")));
+        MockServerWebExchange exchange = exchange("42");
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(downstreamCalls).hasValue(1);
+        assertThat(exchange.getResponse().getHeaders().containsKey(RateLimitFilter.REMAINING_HEADER)).isFalse();
+        assertThat(meterRegistry.get("gateway.rate.limit.errors").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publicRequestsAreKeyedByClientAddress() {
+        useLimiter(Mono.just(RateLimitDecision.allow(7)));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/auth/login")
+                .remoteAddress(new InetSocketAddress("10.0.0.5", 4000)));
+
+        filter.filter(exchange, chain).block();
+
+        assertThat(consumedKey).hasValue("ip:10.0.0.5");
+    }
+
+    private void useLimiter(Mono<RateLimitDecision> decision) {
+        TokenBucketRateLimiter limiter = key -> {
+            consumedKey.set(key);
+            return decision;
+        };
+        ReflectionTestUtils.setField(filter, "rateLimiter", limiter);
+    }
+
+    private static MockServerWebExchange exchange(String userId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/tasks/my"));
+        exchange.getAttributes().put(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR, userId);
+        return exchange;
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskmanager.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescingFilterTest {
+
+    private static final String PATH = "/api/tasks/my";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescingFilter filter = new RequestCoalescingFilter();
+
+    // Downstream calls made so far, and the signal that lets the first one finish
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> release = Sinks.empty();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "paths", List.of(PATH));
+    }
+
+    @Test
+    void identicalRequestWaitsForTheOneInFlight() {
+        GatewayFilterChain chain = exchange -> {
+            downstreamCalls.incrementAndGet();
+            return release.asMono().then(Mono.defer(() -> write(exchange, "tasks")));
+        };
+        MockServerWebExchange first = exchange("1");
+        MockServerWebExchange second = exchange("1");
+
+        filter.filter(first, chain).subscribe();
+        filter.filter(second, chain).subscribe();
+        release.tryEmitEmpty();
+
+        assertThat(downstreamCalls).hasValue(1);
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo("tasks");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("tasks");
+        assertThat(meterRegistry.get("gateway.requests.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void waitingRequestGoesDownstreamWhenTheSharedCallFails() {
+        GatewayFilterChain chain = exchange -> downstreamCalls.incrementAndGet() == 1
+                ? release.asMono().then(Mono.error(new IllegalStateException("downstream failed")))
+                : write(exchange, "fresh");
+        MockServerWebExchange first = exchange("1");
+        MockServerWebExchange second = exchange("1");
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+        filter.filter(first, chain).subscribe(null, firstError::set);
+        filter.filter(second, chain).subscribe();
+        release.tryEmitEmpty();
+
+        assertThat(firstError.get()).hasMessage("downstream failed");
+        assertThat(meterRegistry.get("gateway.requests.coalesced").counter().count()).isEqualTo(1);
+        assertThat(downstreamCalls).hasValue(2);
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("fresh");
+    }
+
+    @Test
+    void requestsFromDifferentUsersAreNotShared() {
+        GatewayFilterChain chain = exchange -> {
+            downstreamCalls.incrementAndGet();
+            return release.asMono().then(Mono.defer(() -> write(exchange, "tasks")));
+        };
+
+        filter.filter(exchange("1"), chain).subscribe();
+        filter.filter(exchange("2"), chain).subscribe();
+        release.tryEmitEmpty();
+
+        assertThat(downstreamCalls).hasValue(2);
+    }
+
+    private static MockServerWebExchange exchange(String userId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+        exchange.getAttributes().put(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR, userId);
+        return exchange;
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, String body) {
+        return exchange.getResponse().writeWith(Mono.just(
+                exchange.getResponse().bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+}
@@ -0,0 +1,152 @@
+package com.taskmanager.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheFilterTest {
+
+    private static final String ETAG = "\"v1\"";
+
+    private final ResponseCacheFilter filter = new ResponseCacheFilter();
+    private final AtomicInteger downstreamCalls = new AtomicInteger();
+
+    // Downstream answers every GET with the same body and ETag
+    private final GatewayFilterChain chain = exchange -> {
+        downstreamCalls.incrementAndGet();
+        if (exchange.getRequest().getMethod().matches("GET")) {
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            exchange.getResponse().getHeaders().setETag(ETAG);
+            return exchange.getResponse().writeWith(Mono.just(exchange.getResponse().bufferFactory()
+                    .wrap("body".getBytes(StandardCharsets.UTF_8))));
+        }
+        return exchange.getResponse().setComplete();
+    };
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "enabled", true);
+        ReflectionTestUtils.setField(filter, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(filter, "maxSizeMb", 1L);
+        ReflectionTestUtils.setField(filter, "maxEntryKb", 16);
+        ReflectionTestUtils.setField(filter, "paths", List.of("/api/projects/**", "/api/tasks/**"));
+        filter.init();
+    }
+
+    @Test
+    void repeatedGetIsServedFromCache() {
+        MockServerWebExchange first = get("/api/projects/7/tasks");
+        MockServerWebExchange second = get("/api/projects/7/tasks");
+
+        filter.filter(first, chain).block();
+        filter.filter(second, chain).block();
+
+        assertThat(downstreamCalls).hasValue(1);
+        assertThat(first.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("MISS");
+        assertThat(second.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER)).isEqualTo("HIT");
+        assertThat(second.getResponse().getBodyAsString().block()).isEqualTo("body");
+    }
+
+    @Test
+    void cachedETagAnswersConditionalRequestWith304() {
+        filter.filter(get("/api/projects/7/tasks"), chain).block();
+        MockServerWebExchange conditional = MockServerWebExchange.from(MockServerHttpRequest.get("/api/projects/7/tasks")
+                .header(HttpHeaders.IF_NONE_MATCH, ETAG));
+        conditional.getAttributes().put(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR, "1");
+
+        filter.filter(conditional, chain).block();
+
+        assertThat(downstreamCalls).hasValue(1);
+        assertThat(conditional.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void projectInvalidationEvictsOnlyThatProjectsViews() {
+        filter.filter(get("/api/projects/7/tasks"), chain).block();
+        filter.filter(get("/api/projects/7"), chain).block();
+        filter.filter(get("/api/tasks/my"), chain).block();
+        filter.filter(get("/api/projects/8/tasks"), chain).block();
+
+        filter.invalidateProject(7L);
+
+        assertThat(cacheStatus("/api/projects/7/tasks")).isEqualTo("MISS");
+        assertThat(cacheStatus("/api/projects/7")).isEqualTo("MISS");
+        assertThat(cacheStatus("/api/tasks/my")).isEqualTo("HIT");
+        assertThat(cacheStatus("/api/projects/8/tasks")).isEqualTo("HIT");
+    }
+
+    @Test
+    void userInvalidationEvictsOnlyThatUsersListings() {
+        filter.filter(get("/api/tasks/my"), chain).block();
+        filter.filter(get("/api/tasks/my", "2"), chain).block();
+        filter.filter(get("/api/projects/7/tasks"), chain).block();
+
+        filter.invalidateUser("1");
+
+        assertThat(cacheStatus("/api/tasks/my")).isEqualTo("MISS");
+        assertThat(cacheStatus("/api/tasks/my", "2")).isEqualTo("HIT");
+        assertThat(cacheStatus("/api/projects/7/tasks")).isEqualTo("HIT");
+    }
+
+    @Test
+    void responseLoadedAcrossAnInvalidationIsNotServedAfterIt() {
+        // Downstream answers only after the project changed
+        GatewayFilterChain slowChain = exchange -> {
+            filter.invalidateProject(7L);
+            return chain.filter(exchange);
+        };
+        filter.filter(get("/api/projects/7/tasks"), slowChain).block();
+
+        assertThat(cacheStatus("/api/projects/7/tasks")).isEqualTo("MISS");
+        assertThat(cacheStatus("/api/projects/7/tasks")).isEqualTo("HIT");
+    }
+
+    @Test
+    void writeThroughTheGatewayEvictsTheProjectAndTheWritersListings() {
+        filter.filter(get("/api/projects/7/tasks"), chain).block();
+        filter.filter(get("/api/tasks/my", "2"), chain).block();
+        filter.filter(get("/api/tasks/my"), chain).block();
+        MockServerWebExchange write = MockServerWebExchange.from(MockServerHttpRequest.put("/api/projects/7/tasks/task/11"));
+        write.getAttributes().put(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR, "2");
+
+        filter.filter(write, chain).block();
+
+        assertThat(cacheStatus("/api/projects/7/tasks")).isEqualTo("MISS");
+        assertThat(cacheStatus("/api/tasks/my", "2")).isEqualTo("MISS");
+        assertThat(cacheStatus("/api/tasks/my")).isEqualTo("HIT");
+    }
+
+    private String cacheStatus(String path) {
+        return cacheStatus(path, "1");
+    }
+
+    private String cacheStatus(String path, String userId) {
+        MockServerWebExchange exchange = get(path, userId);
+        filter.filter(exchange, chain).block();
+        return exchange.getResponse().getHeaders().getFirst(ResponseCacheFilter.CACHE_STATUS_HEADER);
+    }
+
+    private static MockServerWebExchange get(String path) {
+        return get(path, "1");
+    }
+
+    private static MockServerWebExchange get(String path, String userId) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        exchange.getAttributes().put(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR, userId);
+        return exchange;
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskmanager.gateway.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryTokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    // 5 tokens, 2 tokens per second
+    private final InMemoryTokenBucketRateLimiter limiter =
+            new InMemoryTokenBucketRateLimiter(5, 2, 100, now::get);
+
+    @Test
+    void allowsBurstUpToCapacityThenRejects() {
+        for (int remaining = 4; remaining >= 0; remaining--) {
+            RateLimitDecision decision = consume("user:1");
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(remaining);
+        }
+
+        RateLimitDecision rejected = consume("user:1");
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.remaining()).isZero();
+        assertThat(rejected.retryAfterMillis()).isEqualTo(500);
+    }
+
+    @Test
+    void retryAfterShrinksAsTokensRefill() {
+        drain("user:1");
+
+        advanceMillis(200);
+        RateLimitDecision rejected = consume("user:1");
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterMillis()).isEqualTo(300);
+    }
+
+    @Test
+    void refillsAtTheConfiguredRate() {
+        drain("user:1");
+
+        advanceMillis(500);
+        assertThat(consume("user:1").allowed()).isTrue();
+        assertThat(consume("user:1").allowed()).isFalse();
+
+        advanceMillis(1_000);
+        assertThat(consume("user:1").allowed()).isTrue();
+        assertThat(consume("user:1").allowed()).isTrue();
+        assertThat(consume("user:1").allowed()).isFalse();
+    }
+
+    @Test
+    void refillNeverExceedsCapacity() {
+        drain("user:1");
+
+        advanceMillis(60_000);
+
+        assertThat(consume("user:1").remaining()).isEqualTo(4);
+    }
+
+    @Test
+    void bucketsAreIndependentPerKey() {
+        drain("user:1");
+
+        RateLimitDecision other = consume("user:2");
+
+        assertThat(other.allowed()).isTrue();
+        assertThat(other.remaining()).isEqualTo(4);
+    }
+
+    private void drain(String key) {
+        while (consume(key).allowed()) {
+            // take every token
+        }
+    }
+
+    private RateLimitDecision consume(String key) {
+        return limiter.tryConsume(key).block();
+    }
+
+    private void advanceMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskmanager.gateway.ratelimit;
+
+import io.lettuce.core.ConnectionFuture;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.codec.StringCodec;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LazyRedisConnectionTest {
+
+    private static final RedisURI URI = RedisURI.create("redis://localhost:6379");
+
+    private final RedisClient client = mock(RedisClient.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void unreachableServerIsRetriedInTheBackgroundUntilItConnects() throws InterruptedException {
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        RedisReactiveCommands<String, String> commands = mock(RedisReactiveCommands.class);
+        when(connection.reactive()).thenReturn(commands);
+        doReturn(connectFuture(CompletableFuture.failedFuture(new RedisConnectionException("refused"))),
+                connectFuture(CompletableFuture.completedFuture(connection)))
+                .when(client).connectAsync(StringCodec.UTF8, URI);
+
+        LazyRedisConnection lazy = new LazyRedisConnection(client, URI, Duration.ofMillis(10));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (lazy.commands().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(lazy.commands()).containsSame(commands);
+        verify(client, times(2)).connectAsync(StringCodec.UTF8, URI);
+    }
+
+    @Test
+    void limiterUsesTheFallbackUntilConnected() {
+        doReturn(connectFuture(new CompletableFuture<>())).when(client).connectAsync(StringCodec.UTF8, URI);
+        LazyRedisConnection lazy = new LazyRedisConnection(client, URI, Duration.ofSeconds(5));
+        InMemoryTokenBucketRateLimiter fallback = new InMemoryTokenBucketRateLimiter(1, 1, 100);
+        RedisTokenBucketRateLimiter limiter = new RedisTokenBucketRateLimiter(lazy::commands, 1, 1, fallback);
+
+        assertThat(lazy.commands()).isEqualTo(Optional.empty());
+        assertThat(limiter.tryConsume("user:1").block().allowed()).isTrue();
+        assertThat(limiter.tryConsume("user:1").block().allowed()).isFalse();
+    }
+
+    private static <T> ConnectionFuture<T> connectFuture(CompletableFuture<T> result) {
+        return ConnectionFuture.from(InetSocketAddress.createUnresolved("localhost", 6379), result);
+    }
+}
@@ -0,0 +1,100 @@
+package com.taskmanager.benchmarks.gateway;
+
+import com.taskmanager.gateway.filter.JwtAuthenticationFilter;
+import com.taskmanager.gateway.util.IdentityHeaderSigner;
+import com.taskmanager.gateway.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * The gateway JWT filter hot path as it was before the precompiled matcher and the
+ * per-token identity cache, kept verbatim as the "before" side of the comparison:
+ * stream over public prefixes, claims lookup by SHA-256 of the token and an HMAC
+ * signature computed on every request.
+ */
+public class BaselineJwtAuthenticationFilter implements GatewayFilter {
+
+    private static final List<String> PUBLIC_ENDPOINTS = List.of(
+            "/api/auth/register",
+            "/api/auth/login"
+    );
+
+    private final JwtUtil jwtUtil;
+    private final IdentityHeaderSigner identityHeaderSigner;
+
+    public BaselineJwtAuthenticationFilter(JwtUtil jwtUtil, IdentityHeaderSigner identityHeaderSigner) {
+        this.jwtUtil = jwtUtil;
+        this.identityHeaderSigner = identityHeaderSigner;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+
+        if (isPublicEndpoint(request.getPath().toString())) {
+            return chain.filter(exchange);
+        }
+
+        if (!request.getHeaders().containsKey("Authorization")) {
+            return onError(exchange, HttpStatus.UNAUTHORIZED);
+        }
+
+        String authHeader = request.getHeaders().getFirst("Authorization");
+
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return onError(exchange, HttpStatus.UNAUTHORIZED);
+        }
+
+        String token = authHeader.substring(7);
+
+        try {
+            Claims claims = jwtUtil.parseClaims(token);
+            if (!jwtUtil.isValid(claims)) {
+                return onError(exchange, HttpStatus.UNAUTHORIZED);
+            }
+
+            String email = claims.getSubject();
+            String role = claims.get("role", String.class);
+            Long userId = claims.get("userId", Long.class);
+
+            String userIdValue = String.valueOf(userId);
+            long expiresAt = claims.getExpiration().getTime() / 1000;
+            String signature = identityHeaderSigner.sign(userIdValue, role, email, expiresAt);
+
+            ServerHttpRequest modifiedRequest = exchange.getRequest().mutate()
+                    .headers(headers -> {
+                        headers.set(IdentityHeaderSigner.USER_EMAIL_HEADER, email);
+                        headers.set(IdentityHeaderSigner.USER_ROLE_HEADER, role);
+                        headers.set(IdentityHeaderSigner.USER_ID_HEADER, userIdValue);
+                        headers.set(IdentityHeaderSigner.EXPIRES_HEADER, String.valueOf(expiresAt));
+                        headers.set(IdentityHeaderSigner.SIGNATURE_HEADER, signature);
+                    })
+                    .build();
+
+            exchange.getAttributes().put(JwtAuthenticationFilter.AUTHENTICATED_USER_ID_ATTR, userIdValue);
+            return chain.filter(exchange.mutate().request(modifiedRequest).build());
+
+        } catch (Exception e) {
+            return onError(exchange, HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    private boolean isPublicEndpoint(String path) {
+        return PUBLIC_ENDPOINTS.stream()
+                .anyMatch(path::startsWith);
+    }
+
+    private Mono<Void> onError(ServerWebExchange exchange, HttpStatus status) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        return response.setComplete();
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskmanager.benchmarks.gateway;
+
+import com.taskmanager.gateway.filter.JwtAuthenticationFilter;
+import com.taskmanager.gateway.util.ForwardedIdentityResolver;
+import com.taskmanager.gateway.util.IdentityHeaderSigner;
+import com.taskmanager.gateway.util.JwtUtil;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gateway JWT filter throughput, before ({@link BaselineJwtAuthenticationFilter}) and
+ * after (the current {@link JwtAuthenticationFilter}), for an authenticated request
+ * with a repeat token and for a public endpoint.
+ *
+ * <pre>
+ * mvn -pl benchmarks -am package -DskipTests
+ * java -jar benchmarks/target/benchmarks.jar JwtAuthenticationFilterBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKey12345678901234567890";
+
+    private GatewayFilter baseline;
+    private GatewayFilter optimized;
+
+    private ServerWebExchange authenticatedExchange;
+    private ServerWebExchange publicExchange;
+
+    private ServerWebExchange forwarded;
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded = exchange;
+        return Mono.empty();
+    };
+
+    @Setup
+    public void setup() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        IdentityHeaderSigner signer = new IdentityHeaderSigner();
+        ReflectionTestUtils.setField(signer, "secret", SECRET);
+        ReflectionTestUtils.invokeMethod(signer, "init");
+
+        ForwardedIdentityResolver resolver = new ForwardedIdentityResolver();
+        ReflectionTestUtils.setField(resolver, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(resolver, "identityHeaderSigner", signer);
+        ReflectionTestUtils.setField(resolver, "cacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(resolver, "init");
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "forwardedIdentityResolver", resolver);
+
+        baseline = new BaselineJwtAuthenticationFilter(jwtUtil, signer);
+        optimized = filter;
+
+        String token = Jwts.builder()
+                .subject("jane.doe@example.com")
+                .claim("role", "USER")
+                .claim("userId", 42L)
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // The filters never modify the incoming request, so one exchange serves every invocation
+        authenticatedExchange = MockServerWebExchange.from(MockServerHttpRequest
+                .get("/api/projects/7/tasks?page=0&size=20")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        publicExchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/auth/login"));
+    }
+
+    @Benchmark
+    public ServerWebExchange baselineAuthenticated() {
+        baseline.filter(authenticatedExchange, chain);
+        return forwarded;
+    }
+
+    @Benchmark
+    public ServerWebExchange optimizedAuthenticated() {
+        optimized.filter(authenticatedExchange, chain);
+        return forwarded;
+    }
+
+    @Benchmark
+    public ServerWebExchange baselinePublicEndpoint() {
+        baseline.filter(publicExchange, chain);
+        return forwarded;
+    }
+
+    @Benchmark
+    public ServerWebExchange optimizedPublicEndpoint() {
+        optimized.filter(publicExchange, chain);
+        return forwarded;
+    }
+}
@@ -0,0 +1,84 @@
+package com.taskmanager.benchmarks.jwt;
+
+import com.taskmanager.gateway.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * api-gateway JwtUtil: signature verification on a cache miss and the cached
+ * parse/validate/extract calls made per authenticated request
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GatewayJwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtParser jwtParser;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setup() {
+        jwtUtil = JwtFixtures.init(new JwtUtil(), "secret");
+        jwtParser = (JwtParser) ReflectionTestUtils.getField(jwtUtil, "jwtParser");
+        token = JwtFixtures.issueToken();
+        claims = jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public Claims parseUncached() {
+        return jwtParser.parseSignedClaims(token).getPayload();
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return jwtUtil.parseClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenExpiry() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token, JwtFixtures.EMAIL);
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return jwtUtil.isValid(claims);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtil.extractEmail(token);
+    }
+
+    @Benchmark
+    public String extractRole() {
+        return jwtUtil.extractRole(token);
+    }
+
+    @Benchmark
+    public Long extractUserId() {
+        return jwtUtil.extractUserId(token);
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanager.benchmarks.jwt;
+
+import com.taskmanager.user.security.JwtUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Shared secret and a token issued the way production issues it, by user-service's JwtUtil,
+ * so every service's JwtUtil is measured against the same claims
+ */
+final class JwtFixtures {
+
+    static final String SECRET = "benchmarkSecretKey12345678901234567890";
+    static final String EMAIL = "jane.doe@example.com";
+    static final String ROLE = "USER";
+    static final long USER_ID = 42L;
+
+    private JwtFixtures() {
+    }
+
+    static String issueToken() {
+        JwtUtil issuer = new JwtUtil();
+        ReflectionTestUtils.setField(issuer, "SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(issuer, "claimsCacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(issuer, "init");
+        return issuer.generateToken(EMAIL, ROLE, USER_ID);
+    }
+
+    /**
+     * Wire a service's JwtUtil the way Spring would: field values, then its @PostConstruct init
+     */
+    static <T> T init(T jwtUtil, String secretField) {
+        ReflectionTestUtils.setField(jwtUtil, secretField, SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+}
@@ -0,0 +1,65 @@
+package com.taskmanager.benchmarks.notification;
+
+import com.taskmanager.notification.kafka.TaskEventConsumer;
+import com.taskmanager.notification.kafka.dto.TaskEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notification text built per consumed task event, for each event type the consumer
+ * formats. The builder is private, so it is called through a method handle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NotificationMessageBenchmark {
+
+    private static final MethodHandle BUILD_NOTIFICATION_MESSAGE;
+
+    static {
+        try {
+            BUILD_NOTIFICATION_MESSAGE = MethodHandles.privateLookupIn(TaskEventConsumer.class, MethodHandles.lookup())
+                    .findVirtual(TaskEventConsumer.class, "buildNotificationMessage",
+                            MethodType.methodType(String.class, TaskEvent.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({"TASK_CREATED", "TASK_UPDATED", "TASK_COMPLETED", "TASK_ASSIGNED"})
+    private String eventType;
+
+    private TaskEventConsumer consumer;
+    private TaskEvent event;
+
+    @Setup
+    public void setup() {
+        // Message building touches none of the collaborators
+        consumer = new TaskEventConsumer(null, null, null, null, null, null);
+        event = new TaskEvent(eventType, 1001L, "Migrate billing exports", 42L, "Jane Doe",
+                7L, "Apollo", LocalDateTime.of(2024, 3, 1, 9, 30, 15));
+    }
+
+    @Benchmark
+    public String buildNotificationMessage() throws Throwable {
+        return (String) BUILD_NOTIFICATION_MESSAGE.invokeExact(consumer, event);
+    }
+}
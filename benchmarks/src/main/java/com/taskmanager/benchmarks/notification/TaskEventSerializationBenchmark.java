@@ -0,0 +1,77 @@
+package com.taskmanager.benchmarks.notification;
+
+import com.taskmanager.notification.kafka.dto.TaskEvent;
+import com.taskmanager.notification.kafka.serde.TaskEventDeserializer;
+import com.taskmanager.project.kafka.serde.TaskEventSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * task-events value (de)serialization with project-service's producer serializer and
+ * notification-service's consumer deserializer, per wire format
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskEventSerializationBenchmark {
+
+    private static final String TOPIC = "task-events";
+
+    @Param({"AVRO", "JSON"})
+    private TaskEventSerializer.Format format;
+
+    private TaskEventSerializer serializer;
+    private TaskEventDeserializer deserializer;
+    private com.taskmanager.project.kafka.dto.TaskEvent event;
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        serializer = new TaskEventSerializer(format);
+        deserializer = new TaskEventDeserializer(true, new SimpleMeterRegistry());
+
+        event = new com.taskmanager.project.kafka.dto.TaskEvent("TASK_UPDATED", 1001L, "Migrate billing exports",
+                42L, "Jane Doe", 7L, "Apollo", LocalDateTime.of(2024, 3, 1, 9, 30, 15));
+        payload = serializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        serializer.close();
+        deserializer.close();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), event);
+    }
+
+    @Benchmark
+    public TaskEvent deserialize() {
+        return deserializer.deserialize(TOPIC, new RecordHeaders(), payload);
+    }
+
+    @Benchmark
+    public TaskEvent roundTrip() {
+        RecordHeaders headers = new RecordHeaders();
+        return deserializer.deserialize(TOPIC, headers, serializer.serialize(TOPIC, headers, event));
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskmanager.benchmarks.project;
+
+import com.taskmanager.project.dto.TaskResponse;
+import com.taskmanager.project.dto.TaskSummary;
+import com.taskmanager.project.entity.Project;
+import com.taskmanager.project.entity.Task;
+import com.taskmanager.project.enums.Priority;
+import com.taskmanager.project.enums.Status;
+import com.taskmanager.project.service.TaskSearchService;
+import com.taskmanager.project.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/projection to TaskResponse mapping in project-service. The mappers are private,
+ * so they are called through method handles rather than widened for the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskMappingBenchmark {
+
+    private static final MethodHandle TASK_SERVICE_MAP_ENTITY;
+    private static final MethodHandle TASK_SERVICE_MAP_SUMMARY;
+    private static final MethodHandle TASK_SEARCH_SERVICE_MAP_ENTITY;
+
+    static {
+        try {
+            MethodHandles.Lookup taskService = MethodHandles.privateLookupIn(TaskService.class, MethodHandles.lookup());
+            TASK_SERVICE_MAP_ENTITY = taskService.findVirtual(TaskService.class, "mapToResponse",
+                    MethodType.methodType(TaskResponse.class, Task.class, String.class, String.class));
+            TASK_SERVICE_MAP_SUMMARY = taskService.findVirtual(TaskService.class, "mapToResponse",
+                    MethodType.methodType(TaskResponse.class, TaskSummary.class, Map.class));
+
+            MethodHandles.Lookup taskSearchService = MethodHandles.privateLookupIn(TaskSearchService.class, MethodHandles.lookup());
+            TASK_SEARCH_SERVICE_MAP_ENTITY = taskSearchService.findVirtual(TaskSearchService.class, "mapToResponse",
+                    MethodType.methodType(TaskResponse.class, Task.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private TaskService taskService;
+    private TaskSearchService taskSearchService;
+    private Task task;
+    private TaskSummary summary;
+    private Map<Long, String> assigneeNames;
+
+    @Setup
+    public void setup() {
+        // The mappers touch none of the collaborators
+        taskService = new TaskService(null, null, null, null, null);
+        taskSearchService = new TaskSearchService(null);
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 1, 9, 30);
+        LocalDateTime updatedAt = createdAt.plusDays(2);
+        LocalDate dueDate = LocalDate.of(2024, 3, 15);
+
+        Project project = new Project();
+        project.setId(7L);
+        project.setName("Apollo");
+
+        task = new Task();
+        task.setId(1001L);
+        task.setTitle("Migrate billing exports");
+        task.setDescription("Move the nightly billing export job to the new storage bucket and verify checksums");
+        task.setStatus(Status.IN_PROGRESS);
+        task.setPriority(Priority.HIGH);
+        task.setDueDate(dueDate);
+        task.setAssigneeId(42L);
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(updatedAt);
+        task.setProject(project);
+
+        summary = new TaskSummary(task.getId(), task.getTitle(), task.getDescription(), task.getAssigneeId(),
+                task.getStatus(), task.getPriority(), dueDate, createdAt, updatedAt, project.getId(), project.getName());
+        assigneeNames = Map.of(42L, "Jane Doe", 43L, "John Roe");
+    }
+
+    @Benchmark
+    public TaskResponse taskServiceMapEntity() throws Throwable {
+        return (TaskResponse) TASK_SERVICE_MAP_ENTITY.invokeExact(taskService, task, "Jane Doe", "Apollo");
+    }
+
+    @Benchmark
+    public TaskResponse taskServiceMapSummary() throws Throwable {
+        return (TaskResponse) TASK_SERVICE_MAP_SUMMARY.invokeExact(taskService, summary, assigneeNames);
+    }
+
+    @Benchmark
+    public TaskResponse taskSearchServiceMapEntity() throws Throwable {
+        return (TaskResponse) TASK_SEARCH_SERVICE_MAP_ENTITY.invokeExact(taskSearchService, task);
+    }
+}
@@ -0,0 +1,30 @@
+package com.taskmanager.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+
+/**
+ * Load Test Harness
+ *
+ * Starts Postgres, Kafka and a user-service stub in this JVM, launches project-service and
+ * notification-service from their executable jars against them, drives a task/notification
+ * request mix and reports throughput and latency histograms per endpoint.
+ *
+ * <pre>
+ * mvn -B -pl load-test -am package -DskipTests
+ * java -jar load-test/target/load-test.jar --loadtest.duration=PT2M --loadtest.concurrency=64
+ * </pre>
+ *
+ * No Eureka, config-server or Docker is needed.
+ */
+@SpringBootApplication(exclude = KafkaAutoConfiguration.class)
+public class LoadTestApplication {
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(LoadTestApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        System.exit(SpringApplication.exit(application.run(args)));
+    }
+}
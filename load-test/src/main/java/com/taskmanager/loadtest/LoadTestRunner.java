@@ -0,0 +1,75 @@
+package com.taskmanager.loadtest;
+
+import com.taskmanager.loadtest.standin.OtlpCollectorStandIn;
+import com.taskmanager.loadtest.standin.UserServiceStandIn;
+import com.taskmanager.loadtest.workload.EndpointStats;
+import com.taskmanager.loadtest.workload.LoadReport;
+import com.taskmanager.loadtest.workload.NotificationPipelineProbe;
+import com.taskmanager.loadtest.workload.Operation;
+import com.taskmanager.loadtest.workload.WorkloadRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Seed, warm up, measure, wait for the notification pipeline, report. The stand-ins and the
+ * services are already running by the time this starts and are stopped when the context closes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoadTestRunner implements CommandLineRunner {
+
+    private final WorkloadRunner workloadRunner;
+    private final NotificationPipelineProbe notificationPipelineProbe;
+    private final UserServiceStandIn userServiceStandIn;
+    private final OtlpCollectorStandIn otlpCollectorStandIn;
+    private final LoadReport loadReport;
+
+    @Value("${loadtest.warmup:PT15S}")
+    private Duration warmup;
+
+    @Value("${loadtest.duration:PT1M}")
+    private Duration duration;
+
+    @Override
+    public void run(String... args) throws Exception {
+        workloadRunner.seedProjects();
+
+        if (!warmup.isZero()) {
+            log.info("Warming up for {}", warmup);
+            workloadRunner.run(warmup);
+        }
+
+        long singleLookups = userServiceStandIn.getSingleLookups();
+        long batchLookups = userServiceStandIn.getBatchLookups();
+        long batchedIds = userServiceStandIn.getBatchedIds();
+        long tracedLookups = userServiceStandIn.getTracedLookups();
+
+        log.info("Measuring for {} with {} workers ({})", duration, workloadRunner.getConcurrency(), mode());
+        long start = System.nanoTime();
+        Map<Operation, EndpointStats> stats = workloadRunner.run(duration);
+        Duration measured = Duration.ofNanos(System.nanoTime() - start);
+
+        LoadReport.UserServiceCalls userServiceCalls = new LoadReport.UserServiceCalls(
+                userServiceStandIn.getSingleLookups() - singleLookups,
+                userServiceStandIn.getBatchLookups() - batchLookups,
+                userServiceStandIn.getBatchedIds() - batchedIds,
+                userServiceStandIn.getTracedLookups() - tracedLookups);
+        NotificationPipelineProbe.PipelineResult pipeline = notificationPipelineProbe.awaitDrained();
+
+        LoadReport.RunSettings settings = new LoadReport.RunSettings(mode(), workloadRunner.getConcurrency(),
+                workloadRunner.getRate(), warmup.toSeconds(), duration.toSeconds(), workloadRunner.getMix());
+        // Spans of the whole run, warm-up included
+        loadReport.write(settings, stats, measured, pipeline, userServiceCalls, otlpCollectorStandIn.snapshot());
+    }
+
+    private String mode() {
+        return workloadRunner.getRate() > 0 ? "open-loop " + workloadRunner.getRate() + " req/s" : "closed-loop";
+    }
+}
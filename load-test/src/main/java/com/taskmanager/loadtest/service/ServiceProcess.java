@@ -0,0 +1,102 @@
+package com.taskmanager.loadtest.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One service under test, running as a child JVM from its executable jar with its output
+ * redirected to a log file
+ */
+@Slf4j
+public class ServiceProcess implements AutoCloseable {
+
+    private final String name;
+    private final int port;
+    private final Path logFile;
+    private final Process process;
+
+    private ServiceProcess(String name, int port, Path logFile, Process process) {
+        this.name = name;
+        this.port = port;
+        this.logFile = logFile;
+        this.process = process;
+    }
+
+    public static ServiceProcess start(String name, Path jar, int port, List<String> jvmArgs,
+                                       List<String> applicationArgs, Path logDir) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--server.port=" + port);
+        command.addAll(applicationArgs);
+
+        Path logFile = logDir.resolve(name + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        log.info("Started {} (pid {}) on port {}, log: {}", name, process.pid(), port, logFile);
+        return new ServiceProcess(name, port, logFile, process);
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    /**
+     * Block until an authenticated GET of probePath succeeds. An API endpoint rather than
+     * /actuator/health, so the token check and the database are exercised before the run starts.
+     */
+    public void awaitReady(HttpClient client, String probePath, String bearerToken, Duration timeout)
+            throws InterruptedException {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(getBaseUrl() + probePath))
+                .header("Authorization", "Bearer " + bearerToken)
+                .timeout(Duration.ofSeconds(10))
+                .build();
+        Instant deadline = Instant.now().plus(timeout);
+        String lastOutcome = "no response";
+        while (Instant.now().isBefore(deadline)) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(name + " exited with code " + process.exitValue() + ", see " + logFile);
+            }
+            try {
+                HttpResponse<String> response = client.send(probe, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    log.info("{} is ready", name);
+                    return;
+                }
+                lastOutcome = response.statusCode() + " " + response.body();
+            } catch (IOException e) {
+                // Not listening yet, or still too busy starting up to answer
+                lastOutcome = e.toString();
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(name + " not ready after " + timeout + " (last probe: " + lastOutcome + "), see " + logFile);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        if (!process.isAlive()) {
+            return;
+        }
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            log.warn("{} did not stop in time, killing it", name);
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
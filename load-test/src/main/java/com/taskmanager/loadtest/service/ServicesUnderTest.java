@@ -0,0 +1,161 @@
+package com.taskmanager.loadtest.service;
+
+import com.taskmanager.loadtest.standin.KafkaStandIn;
+import com.taskmanager.loadtest.standin.OtlpCollectorStandIn;
+import com.taskmanager.loadtest.standin.PostgresStandIn;
+import com.taskmanager.loadtest.standin.UserServiceStandIn;
+import com.taskmanager.loadtest.workload.TokenFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Launches project-service and notification-service against the stand-ins. Discovery and
+ * the config-server are switched off; user-service is resolved through Spring Cloud's simple
+ * discovery client, so the Feign and WebClient load-balanced paths stay the production ones.
+ * Both export their spans to the OTLP collector stand-in.
+ */
+@Component
+@Slf4j
+public class ServicesUnderTest implements InitializingBean, DisposableBean {
+
+    private final PostgresStandIn postgres;
+    private final KafkaStandIn kafka;
+    private final UserServiceStandIn userService;
+    private final OtlpCollectorStandIn otlpCollector;
+    private final TokenFactory tokenFactory;
+
+    @Value("${loadtest.services-dir:load-test/target/services}")
+    private Path servicesDir;
+
+    @Value("${loadtest.report-dir:load-test/target/load-test}")
+    private Path reportDir;
+
+    @Value("${loadtest.service-jvm-args:-Xmx512m,-XX:+UseG1GC}")
+    private List<String> jvmArgs;
+
+    /**
+     * Appended after the harness's own arguments, so any service property can be overridden
+     */
+    @Value("${loadtest.service-args:}")
+    private List<String> extraArgs;
+
+    @Value("${loadtest.startup-timeout:PT5M}")
+    private Duration startupTimeout;
+
+    @Value("${loadtest.tracing.sampling-probability:0.1}")
+    private double tracingSamplingProbability;
+
+    private ServiceProcess projectService;
+    private ServiceProcess notificationService;
+
+    public ServicesUnderTest(PostgresStandIn postgres, KafkaStandIn kafka, UserServiceStandIn userService,
+                             OtlpCollectorStandIn otlpCollector, TokenFactory tokenFactory) {
+        this.postgres = postgres;
+        this.kafka = kafka;
+        this.userService = userService;
+        this.otlpCollector = otlpCollector;
+        this.tokenFactory = tokenFactory;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        Path logDir = Files.createDirectories(reportDir.resolve("logs"));
+
+        // Started together; both migrate the shared database, each with its own Flyway history table
+        projectService = ServiceProcess.start("project-service", jar("project-service"), freePort(),
+                jvmArgs, projectServiceArgs(), logDir);
+        notificationService = ServiceProcess.start("notification-service", jar("notification-service"), freePort(),
+                jvmArgs, notificationServiceArgs(), logDir);
+
+        HttpClient probeClient = HttpClient.newHttpClient();
+        String probeToken = tokenFactory.tokenFor(1L);
+        try {
+            projectService.awaitReady(probeClient, "/api/projects/my", probeToken, startupTimeout);
+            notificationService.awaitReady(probeClient, "/api/notifications/unread-count", probeToken, startupTimeout);
+        } catch (RuntimeException | InterruptedException e) {
+            // A bean that failed to initialize is never destroyed, so stop the children here
+            destroy();
+            throw e;
+        }
+    }
+
+    public String getProjectServiceUrl() {
+        return projectService.getBaseUrl();
+    }
+
+    public String getNotificationServiceUrl() {
+        return notificationService.getBaseUrl();
+    }
+
+    private List<String> projectServiceArgs() {
+        List<String> args = commonArgs(postgres.getJdbcUrl());
+        // bootstrap.yml imports from the config-server, so it is not read at all; it only carried the name
+        args.add("--spring.cloud.bootstrap.name=loadtest-bootstrap");
+        args.add("--spring.application.name=project-service");
+        args.add("--spring.cloud.discovery.client.simple.instances.user-service[0].uri=" + userService.getBaseUrl());
+        args.addAll(extraArgs);
+        return args;
+    }
+
+    private List<String> notificationServiceArgs() {
+        List<String> args = commonArgs(postgres.getJdbcUrl() + "&reWriteBatchedInserts=true");
+        args.addAll(extraArgs);
+        return args;
+    }
+
+    private List<String> commonArgs(String jdbcUrl) {
+        List<String> args = new ArrayList<>();
+        args.add("--spring.cloud.config.enabled=false");
+        args.add("--eureka.client.enabled=false");
+        args.add("--spring.datasource.url=" + jdbcUrl);
+        args.add("--spring.datasource.username=" + postgres.getUsername());
+        args.add("--spring.datasource.password=" + postgres.getPassword());
+        args.add("--spring.jpa.show-sql=false");
+        args.add("--spring.kafka.bootstrap-servers=" + kafka.getBootstrapServers());
+        args.add("--jwt.secret=" + tokenFactory.getSecret());
+        args.add("--gateway.identity.secret=" + tokenFactory.getSecret());
+        args.add("--management.otlp.tracing.endpoint=" + otlpCollector.getTracesEndpoint());
+        args.add("--management.tracing.sampling.probability=" + tracingSamplingProbability);
+        args.add("--logging.level.root=INFO");
+        args.add("--logging.level.com.taskmanager=INFO");
+        args.add("--logging.level.org.hibernate.SQL=WARN");
+        args.add("--logging.level.org.springframework.kafka=INFO");
+        return args;
+    }
+
+    private Path jar(String service) {
+        Path jar = servicesDir.resolve(service + ".jar");
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalStateException(jar.toAbsolutePath() + " not found; build with: mvn -pl load-test -am package -DskipTests");
+        }
+        return jar;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (notificationService != null) {
+            notificationService.close();
+        }
+        if (projectService != null) {
+            projectService.close();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskmanager.loadtest.standin;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single in-process Kafka broker (KRaft, no ZooKeeper) with the topics the services use.
+ * Partition count should match notification.consumer.concurrency to keep every consumer busy.
+ */
+@Component
+@Slf4j
+public class KafkaStandIn implements DisposableBean {
+
+    private final EmbeddedKafkaKraftBroker broker;
+
+    public KafkaStandIn(@Value("${loadtest.kafka.partitions:3}") int partitions) {
+        broker = new EmbeddedKafkaKraftBroker(1, partitions, "task-events", "user-events");
+        broker.afterPropertiesSet();
+        log.info("Kafka stand-in listening on {}", broker.getBrokersAsString());
+    }
+
+    public String getBootstrapServers() {
+        return broker.getBrokersAsString();
+    }
+
+    @Override
+    public void destroy() {
+        broker.destroy();
+    }
+}
@@ -0,0 +1,204 @@
+package com.taskmanager.loadtest.standin;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * OTLP/HTTP trace receiver (POST /v1/traces, protobuf) the services export their spans to.
+ * Nothing is stored; it only tallies spans per service and per name, and how many traces
+ * reached more than one service, i.e. whether the trace context survived the hop.
+ */
+@Component
+@Slf4j
+public class OtlpCollectorStandIn implements DisposableBean {
+
+    private static final String TRACES_PATH = "/v1/traces";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final LongAdder exportRequests = new LongAdder();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private final Map<String, LongAdder> spansByService = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> spansByName = new ConcurrentHashMap<>();
+    private final Map<ByteString, Set<String>> servicesByTrace = new ConcurrentHashMap<>();
+
+    public OtlpCollectorStandIn() throws IOException {
+        this.executor = Executors.newFixedThreadPool(2);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext(TRACES_PATH, this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+        log.info("OTLP collector stand-in listening on {}", getTracesEndpoint());
+    }
+
+    public String getTracesEndpoint() {
+        return "http://localhost:" + server.getAddress().getPort() + TRACES_PATH;
+    }
+
+    public TraceStats snapshot() {
+        long crossService = servicesByTrace.values().stream().filter(services -> services.size() > 1).count();
+        return new TraceStats(exportRequests.sum(), rejectedRequests.sum(), sum(spansByService),
+                servicesByTrace.size(), crossService, sorted(spansByService), sorted(spansByName));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (InputStream body = "gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))
+                ? new GZIPInputStream(exchange.getRequestBody()) : exchange.getRequestBody()) {
+            readExportRequest(ByteString.readFrom(body));
+            exportRequests.increment();
+            // An empty ExportTraceServiceResponse: everything accepted
+            exchange.getResponseHeaders().set("Content-Type", "application/x-protobuf");
+            exchange.sendResponseHeaders(200, -1);
+        } catch (IOException | RuntimeException e) {
+            rejectedRequests.increment();
+            log.warn("Unreadable OTLP export request: {}", e.toString());
+            exchange.sendResponseHeaders(400, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * ExportTraceServiceRequest.resource_spans = 1
+     */
+    private void readExportRequest(ByteString request) throws IOException {
+        forEachField(request, (field, resourceSpans) -> {
+            if (field == 1) {
+                readResourceSpans(resourceSpans);
+            }
+        });
+    }
+
+    /**
+     * ResourceSpans.resource = 1, ResourceSpans.scope_spans = 2, ScopeSpans.spans = 2
+     */
+    private void readResourceSpans(ByteString resourceSpans) throws IOException {
+        String[] service = {"unknown"};
+        List<ByteString> scopeSpans = new ArrayList<>();
+        forEachField(resourceSpans, (field, value) -> {
+            if (field == 1) {
+                service[0] = serviceName(value);
+            } else if (field == 2) {
+                scopeSpans.add(value);
+            }
+        });
+        for (ByteString scope : scopeSpans) {
+            forEachField(scope, (field, span) -> {
+                if (field == 2) {
+                    readSpan(service[0], span);
+                }
+            });
+        }
+    }
+
+    /**
+     * Span.trace_id = 1, Span.name = 5
+     */
+    private void readSpan(String service, ByteString span) throws IOException {
+        ByteString[] traceId = {ByteString.EMPTY};
+        String[] name = {""};
+        forEachField(span, (field, value) -> {
+            if (field == 1) {
+                traceId[0] = value;
+            } else if (field == 5) {
+                name[0] = value.toStringUtf8();
+            }
+        });
+        spansByService.computeIfAbsent(service, key -> new LongAdder()).increment();
+        spansByName.computeIfAbsent(service + ' ' + name[0], key -> new LongAdder()).increment();
+        servicesByTrace.computeIfAbsent(traceId[0], key -> ConcurrentHashMap.newKeySet()).add(service);
+    }
+
+    /**
+     * Resource.attributes = 1, KeyValue.key = 1, KeyValue.value = 2, AnyValue.string_value = 1
+     */
+    private static String serviceName(ByteString resource) throws IOException {
+        String[] serviceName = {"unknown"};
+        forEachField(resource, (field, attribute) -> {
+            if (field != 1) {
+                return;
+            }
+            String[] key = {null};
+            ByteString[] value = {ByteString.EMPTY};
+            forEachField(attribute, (attributeField, attributeValue) -> {
+                if (attributeField == 1) {
+                    key[0] = attributeValue.toStringUtf8();
+                } else if (attributeField == 2) {
+                    value[0] = attributeValue;
+                }
+            });
+            if ("service.name".equals(key[0])) {
+                forEachField(value[0], (valueField, string) -> {
+                    if (valueField == 1) {
+                        serviceName[0] = string.toStringUtf8();
+                    }
+                });
+            }
+        });
+        return serviceName[0];
+    }
+
+    /**
+     * Hands every length-delimited field (messages, strings, bytes) to the reader and skips the rest
+     */
+    private static void forEachField(ByteString message, FieldReader reader) throws IOException {
+        CodedInputStream in = message.newCodedInput();
+        for (int tag = in.readTag(); tag != 0; tag = in.readTag()) {
+            if (WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                reader.read(WireFormat.getTagFieldNumber(tag), in.readBytes());
+            } else {
+                in.skipField(tag);
+            }
+        }
+    }
+
+    private static long sum(Map<String, LongAdder> counts) {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static Map<String, Long> sorted(Map<String, LongAdder> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum()).reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue().sum()));
+        return sorted;
+    }
+
+    @Override
+    public void destroy() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface FieldReader {
+        void read(int field, ByteString value) throws IOException;
+    }
+
+    public record TraceStats(long exportRequests, long rejectedRequests, long spans, long traces,
+                             long crossServiceTraces, Map<String, Long> spansByService,
+                             Map<String, Long> spansByName) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.taskmanager.loadtest.standin;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * A real PostgreSQL server started from binaries bundled in a jar (no Docker), shared by
+ * both services like the production database; each service runs its own Flyway migrations
+ */
+@Component
+@Slf4j
+public class PostgresStandIn implements DisposableBean {
+
+    private final EmbeddedPostgres postgres;
+
+    public PostgresStandIn(
+            @Value("${loadtest.postgres.max-connections:200}") int maxConnections,
+            @Value("${loadtest.postgres.startup-timeout:PT1M}") Duration startupTimeout) throws IOException {
+        postgres = EmbeddedPostgres.builder()
+                .setServerConfig("max_connections", String.valueOf(maxConnections))
+                .setPGStartupWait(startupTimeout)
+                .start();
+        log.info("Postgres stand-in listening on port {}", postgres.getPort());
+    }
+
+    public String getJdbcUrl() {
+        return postgres.getJdbcUrl("postgres", "postgres");
+    }
+
+    public String getUsername() {
+        return "postgres";
+    }
+
+    public String getPassword() {
+        return "postgres";
+    }
+
+    public DataSource getDataSource() {
+        return postgres.getPostgresDatabase();
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        postgres.close();
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskmanager.loadtest.standin;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stub for the user-service endpoints project-service calls (single lookup, lookup by email,
+ * batch lookup). Every id resolves to a synthetic user; an optional fixed delay simulates a
+ * slow or remote user-service.
+ */
+@Component
+@Slf4j
+public class UserServiceStandIn implements DisposableBean {
+
+    private static final String USERS_PATH = "/api/users/";
+    private static final String EMAIL_PATH = "/api/users/email/";
+    private static final String BATCH_PATH = "/api/users/batch";
+
+    private final ObjectMapper objectMapper;
+    private final Duration latency;
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private final LongAdder singleLookups = new LongAdder();
+    private final LongAdder batchLookups = new LongAdder();
+    private final LongAdder batchedIds = new LongAdder();
+    private final LongAdder tracedLookups = new LongAdder();
+
+    public UserServiceStandIn(
+            ObjectMapper objectMapper,
+            @Value("${loadtest.user-service.latency:PT0S}") Duration latency,
+            @Value("${loadtest.user-service.threads:32}") int threads) throws IOException {
+        this.objectMapper = objectMapper;
+        this.latency = latency;
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext(USERS_PATH, this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+        log.info("user-service stand-in listening on {} (latency {})", getBaseUrl(), latency);
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public long getSingleLookups() {
+        return singleLookups.sum();
+    }
+
+    public long getBatchLookups() {
+        return batchLookups.sum();
+    }
+
+    public long getBatchedIds() {
+        return batchedIds.sum();
+    }
+
+    /**
+     * Lookups that arrived with a traceparent header, i.e. Feign or WebClient propagated the trace
+     */
+    public long getTracedLookups() {
+        return tracedLookups.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!latency.isZero()) {
+                Thread.sleep(latency.toMillis());
+            }
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            if (exchange.getRequestHeaders().containsKey("traceparent")) {
+                tracedLookups.increment();
+            }
+
+            if ("POST".equals(method) && path.equals(BATCH_PATH)) {
+                List<Long> ids = objectMapper.readValue(exchange.getRequestBody(), new TypeReference<>() { });
+                batchLookups.increment();
+                batchedIds.add(ids.size());
+                respond(exchange, 200, ids.stream().map(UserServiceStandIn::user).toList());
+            } else if ("GET".equals(method) && path.startsWith(EMAIL_PATH)) {
+                singleLookups.increment();
+                String email = path.substring(EMAIL_PATH.length());
+                respond(exchange, 200, user(userIdFromEmail(email)));
+            } else if ("GET".equals(method) && path.length() > USERS_PATH.length()) {
+                singleLookups.increment();
+                respond(exchange, 200, user(Long.parseLong(path.substring(USERS_PATH.length()))));
+            } else {
+                respond(exchange, 404, Map.of("error", "Not found"));
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            respond(exchange, 404, Map.of("error", "Not found"));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Synthetic user, stable per id; matches the e-mail the harness puts in that user's token
+     */
+    private static Map<String, Object> user(long id) {
+        return Map.of(
+                "id", id,
+                "email", email(id),
+                "name", "Load User " + id,
+                "role", "USER");
+    }
+
+    public static String email(long userId) {
+        return "user" + userId + "@loadtest.local";
+    }
+
+    private static long userIdFromEmail(String email) {
+        return Long.parseLong(email.substring("user".length(), email.indexOf('@')));
+    }
+
+    @Override
+    public void destroy() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,74 @@
+package com.taskmanager.loadtest.workload;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram (microseconds) and outcome counters for one endpoint. Latencies of
+ * failed requests are recorded too, since a slow error costs the client just as much.
+ */
+public class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Operation operation;
+    private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder transportErrors = new LongAdder();
+    private final ConcurrentMap<Integer, LongAdder> errorsByStatus = new ConcurrentHashMap<>();
+
+    public EndpointStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    public void recordResponse(int status, long latencyNanos) {
+        record(latencyNanos);
+        if (status < 400) {
+            successes.increment();
+        } else {
+            errorsByStatus.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+    }
+
+    public void recordTransportError(long latencyNanos) {
+        record(latencyNanos);
+        transportErrors.increment();
+    }
+
+    private void record(long latencyNanos) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_TRACKABLE_MICROS));
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public Histogram getLatencies() {
+        return latencies;
+    }
+
+    public long getSuccesses() {
+        return successes.sum();
+    }
+
+    public long getTransportErrors() {
+        return transportErrors.sum();
+    }
+
+    public Map<Integer, Long> getErrorsByStatus() {
+        Map<Integer, Long> errors = new TreeMap<>();
+        errorsByStatus.forEach((status, count) -> errors.put(status, count.sum()));
+        return errors;
+    }
+
+    public long getErrors() {
+        return transportErrors.sum() + errorsByStatus.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
@@ -0,0 +1,116 @@
+package com.taskmanager.loadtest.workload;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.loadtest.standin.OtlpCollectorStandIn;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the run results: a summary table to the log, report.json for tracking runs over
+ * time, and one HdrHistogram percentile distribution (.hgrm, milliseconds) per endpoint
+ */
+@Component
+@Slf4j
+public class LoadReport {
+
+    private final ObjectMapper objectMapper;
+
+    @Value("${loadtest.report-dir:load-test/target/load-test}")
+    private Path reportDir;
+
+    public LoadReport(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public Path write(RunSettings settings, Map<Operation, EndpointStats> stats, Duration measured,
+                      NotificationPipelineProbe.PipelineResult pipeline, UserServiceCalls userServiceCalls,
+                      OtlpCollectorStandIn.TraceStats traces) throws IOException {
+        Files.createDirectories(reportDir);
+        double seconds = measured.toNanos() / 1e9;
+
+        List<EndpointResult> endpoints = new ArrayList<>();
+        StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+                "%n%-20s %9s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        for (EndpointStats endpoint : stats.values()) {
+            Histogram histogram = endpoint.getLatencies();
+            long requests = histogram.getTotalCount();
+            EndpointResult result = new EndpointResult(
+                    endpoint.getOperation().name(),
+                    endpoint.getOperation().getEndpoint(),
+                    requests,
+                    requests / seconds,
+                    endpoint.getErrors(),
+                    endpoint.getErrorsByStatus(),
+                    endpoint.getTransportErrors(),
+                    new Latency(
+                            histogram.getMean() / 1000.0,
+                            millis(histogram, 50),
+                            millis(histogram, 90),
+                            millis(histogram, 99),
+                            millis(histogram, 99.9),
+                            histogram.getMaxValue() / 1000.0));
+            endpoints.add(result);
+
+            table.append(String.format(Locale.ROOT, "%-20s %9d %9.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.operation(), requests, result.throughputPerSecond(), result.errors(),
+                    result.latencyMillis().p50(), result.latencyMillis().p90(), result.latencyMillis().p99(),
+                    result.latencyMillis().p999(), result.latencyMillis().max()));
+
+            Path hgrm = reportDir.resolve(endpoint.getOperation().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        long total = endpoints.stream().mapToLong(EndpointResult::requests).sum();
+        table.append(String.format(Locale.ROOT, "%-20s %9d %9.1f%n", "total", total, total / seconds));
+        log.info("Results over {} s:{}", String.format(Locale.ROOT, "%.1f", seconds), table);
+        log.info("Traces: {} spans in {} traces, {} spanning more than one service",
+                traces.spans(), traces.traces(), traces.crossServiceTraces());
+
+        Path json = reportDir.resolve("report.json");
+        objectMapper.writeValue(json.toFile(), new Report(Instant.now().toString(), settings, seconds,
+                total / seconds, endpoints, pipeline, userServiceCalls, traces));
+        log.info("Report written to {}", json.toAbsolutePath());
+        return json;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    public record RunSettings(String mode, int concurrency, int targetRate, long warmupSeconds,
+                              long durationSeconds, Map<Operation, Integer> mix) {
+    }
+
+    public record UserServiceCalls(long singleLookups, long batchLookups, long batchedIds, long tracedLookups) {
+    }
+
+    record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+    }
+
+    record EndpointResult(String operation, String endpoint, long requests, double throughputPerSecond,
+                          long errors, Map<Integer, Long> errorsByStatus, long transportErrors,
+                          Latency latencyMillis) {
+    }
+
+    record Report(String finishedAt, RunSettings settings, double measuredSeconds, double totalThroughputPerSecond,
+                  List<EndpointResult> endpoints, NotificationPipelineProbe.PipelineResult notificationPipeline,
+                  UserServiceCalls userServiceCalls, OtlpCollectorStandIn.TraceStats traces) {
+    }
+}
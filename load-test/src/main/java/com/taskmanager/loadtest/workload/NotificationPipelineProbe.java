@@ -0,0 +1,67 @@
+package com.taskmanager.loadtest.workload;
+
+import com.taskmanager.loadtest.standin.PostgresStandIn;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Measures how far the task-events pipeline (outbox relay, Kafka, notification consumer)
+ * trails task creation: every created task yields exactly one notification for its assignee.
+ */
+@Component
+@Slf4j
+public class NotificationPipelineProbe {
+
+    private final DataSource dataSource;
+
+    @Value("${loadtest.drain-timeout:PT1M}")
+    private Duration drainTimeout;
+
+    public NotificationPipelineProbe(PostgresStandIn postgres) {
+        this.dataSource = postgres.getDataSource();
+    }
+
+    /**
+     * Wait until every created task has its notification, or the drain timeout passes
+     */
+    public PipelineResult awaitDrained() throws SQLException, InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + drainTimeout.toNanos();
+        while (true) {
+            long tasks = count("SELECT COUNT(*) FROM tasks");
+            long notifications = count("SELECT COUNT(*) FROM notifications");
+            long now = System.nanoTime();
+            if (notifications >= tasks || now >= deadline) {
+                PipelineResult result = new PipelineResult(tasks, notifications, notifications >= tasks,
+                        Duration.ofNanos(now - start).toMillis());
+                log.info("Notification pipeline: {} tasks, {} notifications, drained={} after {} ms",
+                        tasks, notifications, result.drained(), result.drainMillis());
+                return result;
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * @param drainMillis time from the end of the run until notifications caught up (or the timeout)
+     */
+    public record PipelineResult(long tasks, long notifications, boolean drained, long drainMillis) {
+    }
+}
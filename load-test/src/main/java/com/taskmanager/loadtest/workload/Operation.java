@@ -0,0 +1,22 @@
+package com.taskmanager.loadtest.workload;
+
+/**
+ * Endpoints in the request mix; each gets its own throughput and latency histogram
+ */
+public enum Operation {
+
+    CREATE_TASK("POST /api/projects/{projectId}/tasks"),
+    SEARCH_TASKS("GET /api/tasks/search"),
+    LIST_NOTIFICATIONS("GET /api/notifications"),
+    UNREAD_COUNT("GET /api/notifications/unread-count");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskmanager.loadtest.workload;
+
+import com.taskmanager.loadtest.standin.UserServiceStandIn;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens for simulated users, with the claims user-service puts in a login token and signed
+ * with the secret the services under test are started with
+ */
+@Component
+public class TokenFactory {
+
+    private static final long TOKEN_VALIDITY_MS = TimeUnit.HOURS.toMillis(24);
+
+    private final String secret;
+    private final SecretKey signingKey;
+    private final ConcurrentMap<Long, String> tokens = new ConcurrentHashMap<>();
+
+    public TokenFactory(@Value("${loadtest.jwt-secret:loadTestSecretKey1234567890123456789012}") String secret) {
+        this.secret = secret;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    /**
+     * One token per user for the whole run, like a logged-in client reusing its token
+     */
+    public String tokenFor(long userId) {
+        return tokens.computeIfAbsent(userId, this::issue);
+    }
+
+    private String issue(long userId) {
+        String email = UserServiceStandIn.email(userId);
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .claim("email", email)
+                .claim("userId", userId)
+                .claim("role", "USER")
+                .subject(email)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + TOKEN_VALIDITY_MS))
+                .signWith(signingKey, Jwts.SIG.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,268 @@
+package com.taskmanager.loadtest.workload;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.loadtest.service.ServicesUnderTest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the weighted request mix with a fixed number of workers.
+ *
+ * Closed loop by default: each worker sends its next request as soon as the previous one
+ * returns. With loadtest.rate set, workers follow a fixed schedule instead and latency is
+ * measured from the scheduled send time, so a stalled service shows up in the percentiles
+ * rather than just lowering the request count (coordinated omission).
+ */
+@Component
+@Slf4j
+public class WorkloadRunner {
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    private final ServicesUnderTest services;
+    private final TokenFactory tokenFactory;
+    private final ObjectMapper objectMapper;
+
+    @Value("${loadtest.users:200}")
+    private int users;
+
+    @Value("${loadtest.projects:20}")
+    private int projects;
+
+    @Value("${loadtest.concurrency:32}")
+    private int concurrency;
+
+    /**
+     * Total requests per second across all workers; 0 runs closed loop
+     */
+    @Value("${loadtest.rate:0}")
+    private int rate;
+
+    @Value("${loadtest.request-timeout:PT10S}")
+    private Duration requestTimeout;
+
+    @Value("${loadtest.mix.create-task:20}")
+    private int createTaskWeight;
+
+    @Value("${loadtest.mix.search-tasks:40}")
+    private int searchTasksWeight;
+
+    @Value("${loadtest.mix.list-notifications:30}")
+    private int listNotificationsWeight;
+
+    @Value("${loadtest.mix.unread-count:10}")
+    private int unreadCountWeight;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    private final AtomicLong taskSequence = new AtomicLong();
+    private List<Long> projectIds;
+
+    public WorkloadRunner(ServicesUnderTest services, TokenFactory tokenFactory, ObjectMapper objectMapper) {
+        this.services = services;
+        this.tokenFactory = tokenFactory;
+        this.objectMapper = objectMapper;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public int getRate() {
+        return rate;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        Map<Operation, Integer> mix = new LinkedHashMap<>();
+        mix.put(Operation.CREATE_TASK, createTaskWeight);
+        mix.put(Operation.SEARCH_TASKS, searchTasksWeight);
+        mix.put(Operation.LIST_NOTIFICATIONS, listNotificationsWeight);
+        mix.put(Operation.UNREAD_COUNT, unreadCountWeight);
+        return mix;
+    }
+
+    /**
+     * Create the projects tasks are filed under, each owned by a different user
+     */
+    public void seedProjects() throws IOException, InterruptedException {
+        projectIds = new ArrayList<>(projects);
+        for (int i = 0; i < projects; i++) {
+            long ownerId = (i % users) + 1;
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "name", "Load project " + (i + 1),
+                    "description", "Seeded by the load-test harness"));
+            HttpRequest request = authorized(services.getProjectServiceUrl() + "/api/projects", ownerId)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Seeding project failed: " + response.statusCode() + " " + response.body());
+            }
+            JsonNode project = objectMapper.readTree(response.body());
+            projectIds.add(project.get("id").asLong());
+        }
+        log.info("Seeded {} projects for {} users", projectIds.size(), users);
+    }
+
+    /**
+     * Run the mix for the given time and return per-endpoint statistics
+     */
+    public Map<Operation, EndpointStats> run(Duration duration) throws InterruptedException {
+        Map<Operation, EndpointStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new EndpointStats(operation));
+        }
+        Operation[] schedule = weightedSchedule();
+
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        long interval = rate > 0 ? TimeUnit.SECONDS.toNanos(concurrency) / rate : 0;
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> futures = new ArrayList<>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                // Stagger scheduled workers so the target rate is spread evenly over each interval
+                long firstSend = start + (interval * i) / concurrency;
+                futures.add(workers.submit(() -> work(schedule, stats, firstSend, interval, deadline)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Worker failed", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        return stats;
+    }
+
+    private void work(Operation[] schedule, Map<Operation, EndpointStats> stats,
+                      long firstSend, long interval, long deadline) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long intendedStart = firstSend;
+        while (true) {
+            if (interval > 0) {
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                intendedStart = System.nanoTime();
+            }
+            if (intendedStart >= deadline || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+
+            Operation operation = schedule[random.nextInt(schedule.length)];
+            EndpointStats endpointStats = stats.get(operation);
+            try {
+                HttpResponse<Void> response = client.send(request(operation, random), HttpResponse.BodyHandlers.discarding());
+                endpointStats.recordResponse(response.statusCode(), System.nanoTime() - intendedStart);
+            } catch (IOException e) {
+                endpointStats.recordTransportError(System.nanoTime() - intendedStart);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            intendedStart += interval;
+        }
+    }
+
+    private HttpRequest request(Operation operation, ThreadLocalRandom random) throws IOException {
+        long userId = random.nextLong(users) + 1;
+        return switch (operation) {
+            case CREATE_TASK -> createTask(userId, random);
+            case SEARCH_TASKS -> searchTasks(random);
+            case LIST_NOTIFICATIONS -> authorized(services.getNotificationServiceUrl()
+                    + "/api/notifications?page=0&size=20", userId).GET().build();
+            case UNREAD_COUNT -> authorized(services.getNotificationServiceUrl()
+                    + "/api/notifications/unread-count", userId).GET().build();
+        };
+    }
+
+    private HttpRequest createTask(long userId, ThreadLocalRandom random) throws IOException {
+        long projectId = projectIds.get(random.nextInt(projectIds.size()));
+        Map<String, Object> task = new LinkedHashMap<>();
+        task.put("title", "Load task " + taskSequence.incrementAndGet());
+        task.put("description", "Created by the load-test harness for throughput measurements");
+        // Assigned to anyone, so notifications spread over all users
+        task.put("assigneeId", random.nextLong(users) + 1);
+        task.put("status", "TODO");
+        task.put("priority", PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        task.put("dueDate", LocalDate.now().plusDays(random.nextInt(1, 30)).toString());
+
+        return authorized(services.getProjectServiceUrl() + "/api/projects/" + projectId + "/tasks", userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(task)))
+                .build();
+    }
+
+    /**
+     * Alternates the two filter shapes the UI issues: a project board column and a user's queue
+     */
+    private HttpRequest searchTasks(ThreadLocalRandom random) {
+        String query;
+        if (random.nextBoolean()) {
+            long projectId = projectIds.get(random.nextInt(projectIds.size()));
+            query = "projectId=" + projectId + "&status=" + STATUSES[random.nextInt(STATUSES.length)];
+        } else {
+            long assigneeId = random.nextLong(users) + 1;
+            query = "assigneeId=" + assigneeId + "&priority=" + PRIORITIES[random.nextInt(PRIORITIES.length)];
+        }
+        long userId = random.nextLong(users) + 1;
+        return authorized(services.getProjectServiceUrl() + "/api/tasks/search?" + query + "&page=0&size=20", userId)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(String url, long userId) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Authorization", "Bearer " + tokenFactory.tokenFor(userId));
+    }
+
+    /**
+     * One slot per weight unit, so picking an operation is a single random index
+     */
+    private Operation[] weightedSchedule() {
+        List<Operation> slots = new ArrayList<>();
+        getMix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        if (slots.isEmpty()) {
+            throw new IllegalStateException("loadtest.mix weights are all zero");
+        }
+        return slots.toArray(Operation[]::new);
+    }
+}
@@ -0,0 +1,46 @@
+package com.taskmanager.notification.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Warns at startup when an index the notification queries rely on is missing,
+ * e.g. because migrations were skipped or an index was dropped by hand.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IndexVerifier {
+
+    static final List<String> EXPECTED_INDEXES = List.of(
+            "idx_notifications_user_created",
+            "idx_notifications_user_unread");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() {
+        try {
+            Set<String> missing = new HashSet<>(EXPECTED_INDEXES);
+            missing.removeAll(jdbcTemplate.queryForList(
+                    "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema()",
+                    String.class));
+
+            if (missing.isEmpty()) {
+                log.info("All {} expected notification indexes are present", EXPECTED_INDEXES.size());
+            } else {
+                log.warn("Missing database indexes {} - notification listings will fall back to sequential scans", missing);
+            }
+        } catch (Exception e) {
+            log.warn("Could not verify database indexes: {}", e.getMessage());
+        }
+    }
+}
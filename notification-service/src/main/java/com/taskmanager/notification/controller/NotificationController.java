@@ -1,14 +1,24 @@
 package com.taskmanager.notification.controller;
 
+import com.taskmanager.notification.dto.CursorPage;
+import com.taskmanager.notification.dto.FeedCursor;
 import com.taskmanager.notification.dto.NotificationResponse;
 import com.taskmanager.notification.entity.Notification;
+import com.taskmanager.notification.service.NotificationPushService;
 import com.taskmanager.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/notifications")
@@ -17,26 +27,66 @@ import org.springframework.web.bind.annotation.*;
 public class NotificationController {
     
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
     
     @GetMapping
     public ResponseEntity<Page<NotificationResponse>> getUserNotifications(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         
         Long userId = getUserIdFromToken();
+        String etag = notificationService.getNotificationsETag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        
         Page<Notification> notifications = notificationService.getUserNotifications(userId, page, size);
         
-        Page<NotificationResponse> response = notifications.map(notification ->
-            new NotificationResponse(
-                notification.getId(),
-                notification.getMessage(),
-                notification.getType(),
-                notification.getIsRead(),
-                notification.getCreatedAt()
-            )
-        );
+        LocalDateTime readBefore = notificationService.getReadWatermark(userId);
+        Page<NotificationResponse> response = notifications.map(notification -> mapToResponse(notification, readBefore));
+        
+        return ResponseEntity.ok().eTag(etag).body(response);
+    }
+    
+    @GetMapping("/feed")
+    public ResponseEntity<CursorPage<NotificationResponse>> getUserNotificationFeed(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+        
+        Long userId = getUserIdFromToken();
+        String etag = notificationService.getNotificationsETag(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         
-        return ResponseEntity.ok(response);
+        CursorPage<Notification> notifications =
+            notificationService.getUserNotificationFeed(userId, FeedCursor.decode(cursor), size);
+        
+        LocalDateTime readBefore = notificationService.getReadWatermark(userId);
+        List<NotificationResponse> content = notifications.getContent().stream()
+            .map(notification -> mapToResponse(notification, readBefore))
+            .collect(Collectors.toList());
+        
+        return ResponseEntity.ok().eTag(etag)
+            .body(new CursorPage<>(content, notifications.getNextCursor(), notifications.isHasNext()));
+    }
+    
+    /**
+     * Live notification stream. Reconnecting clients send the last received event id
+     * (Last-Event-ID header or lastEventId param) to have missed notifications replayed.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+            @RequestParam(value = "lastEventId", required = false) String lastEventIdParam) {
+        
+        Long userId = getUserIdFromToken();
+        String lastEventId = lastEventIdHeader != null ? lastEventIdHeader : lastEventIdParam;
+        List<Notification> replay = notificationService.getStreamReplay(userId, FeedCursor.decode(lastEventId));
+        
+        return notificationPushService.subscribe(userId, replay);
     }
     
     @GetMapping("/unread-count")
@@ -60,6 +110,18 @@ public class NotificationController {
         return ResponseEntity.ok().build();
     }
     
+    private NotificationResponse mapToResponse(Notification notification, LocalDateTime readBefore) {
+        boolean read = notification.getIsRead()
+            || (readBefore != null && !notification.getCreatedAt().isAfter(readBefore));
+        return new NotificationResponse(
+            notification.getId(),
+            notification.getMessage(),
+            notification.getType(),
+            read,
+            notification.getCreatedAt()
+        );
+    }
+    
     private Long getUserIdFromToken() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.getPrincipal() != null) {
@@ -0,0 +1,18 @@
+package com.taskmanager.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Newest notification id and unread flag count of a user. New notifications raise the id
+ * and reads lower the count (notifications are never deleted), so together they version
+ * the user's notification list.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationsVersion {
+    private Long maxId;
+    private Long unreadFlags;
+}
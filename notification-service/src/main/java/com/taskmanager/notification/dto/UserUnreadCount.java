@@ -0,0 +1,13 @@
+package com.taskmanager.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserUnreadCount {
+    private Long userId;
+    private Long count;
+}
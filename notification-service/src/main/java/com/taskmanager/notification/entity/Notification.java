@@ -14,14 +14,19 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Notification {
     
+    // notifications.message is VARCHAR(255)
+    public static final int MESSAGE_MAX_LENGTH = 255;
+    
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_id_seq")
+    @SequenceGenerator(name = "notification_id_seq", sequenceName = "notification_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
     private Long userId;
     
-    @Column(nullable = false)
+    @Column(nullable = false, length = MESSAGE_MAX_LENGTH)
     private String message;
     
     @Column(nullable = false)
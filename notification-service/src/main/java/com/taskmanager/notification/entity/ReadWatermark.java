@@ -0,0 +1,25 @@
+package com.taskmanager.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-user "read all" marker: every notification created at or before readBefore counts as read.
+ */
+@Entity
+@Table(name = "notification_read_watermarks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadWatermark {
+    
+    @Id
+    private Long userId;
+    
+    @Column(nullable = false)
+    private LocalDateTime readBefore;
+}
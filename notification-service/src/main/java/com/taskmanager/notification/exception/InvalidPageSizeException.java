@@ -0,0 +1,11 @@
+package com.taskmanager.notification.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidPageSizeException extends RuntimeException {
+    public InvalidPageSizeException(int size, int max) {
+        super("Page size must be between 1 and " + max + ": " + size);
+    }
+}
@@ -1,38 +1,67 @@
 package com.taskmanager.notification.kafka;
 
 import com.taskmanager.notification.kafka.dto.TaskEvent;
+import com.taskmanager.notification.kafka.serde.TaskEventDeserializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 @EnableKafka
+@RequiredArgsConstructor
+@Slf4j
 public class KafkaConsumerConfig {
     
+    private final MeterRegistry meterRegistry;
+    
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
     
+    @Value("${notification.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+    
+    @Value("${notification.consumer.concurrency:3}")
+    private int concurrency;
+    
+    @Value("${notification.consumer.retry.max-elapsed-ms:300000}")
+    private long retryMaxElapsedMs;
+    
+    @Value("${task-events.read-json:true}")
+    private boolean readJson;
+    
     @Bean
     public ConsumerFactory<String, TaskEvent> consumerFactory() {
         Map<String, Object> config = new HashMap<>();
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         config.put(ConsumerConfig.GROUP_ID_CONFIG, "notification-service-group");
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, TaskEvent.class.getName());
-        return new DefaultKafkaConsumerFactory<>(config);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        // A record that fails to deserialize arrives with a null value instead of failing the whole poll
+        DefaultKafkaConsumerFactory<String, TaskEvent> factory = new DefaultKafkaConsumerFactory<>(config,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new TaskEventDeserializer(readJson, meterRegistry)));
+        // Client metrics, including records-lag-max per partition, as kafka.consumer.* meters
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
     }
     
     @Bean
@@ -40,6 +69,23 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, TaskEvent> factory = 
             new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        // Offsets of a poll are committed only after the listener returned, i.e. after the insert committed
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        // A failed insert is redelivered with backoff. The listener names the record it could not
+        // store (BatchListenerFailedException), so only that record is retried and finally skipped
+        ExponentialBackOff backOff = new ExponentialBackOff(1000L, 2.0);
+        backOff.setMaxInterval(30000L);
+        backOff.setMaxElapsedTime(retryMaxElapsedMs);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler((record, e) -> {
+            log.error("Skipping task event at {}-{}@{} after retries: {}",
+                record.topic(), record.partition(), record.offset(), e.toString());
+            meterRegistry.counter("taskmanager.task.events.skipped").increment();
+        }, backOff);
+        // A row the database rejects (e.g. a constraint) fails the same way on every attempt
+        errorHandler.addNotRetryableExceptions(DataIntegrityViolationException.class);
+        factory.setCommonErrorHandler(errorHandler);
         return factory;
     }
 }
\ No newline at end of file
@@ -1,41 +1,179 @@
 package com.taskmanager.notification.kafka;
 
+import com.taskmanager.notification.entity.Notification;
 import com.taskmanager.notification.kafka.dto.TaskEvent;
+import com.taskmanager.notification.service.NotificationPushService;
 import com.taskmanager.notification.service.NotificationService;
+import com.taskmanager.notification.service.UnreadCounterStore;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Link;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TaskEventConsumer {
     
+    private static final Propagator.Getter<Headers> KAFKA_HEADERS = (headers, key) -> {
+        Header header = headers.lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    };
+    
     private final NotificationService notificationService;
+    private final UnreadCounterStore unreadCounterStore;
+    private final NotificationPushService notificationPushService;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final Propagator propagator;
     
+    /**
+     * Handles a whole poll at once: builds every notification and stores them in one
+     * transaction with batched inserts. Throwing lets the container redeliver the batch,
+     * since offsets are committed only after this method returns. When the batch insert
+     * fails, the notifications are stored one by one so a single unstorable record is
+     * reported as a BatchListenerFailedException and only that record is retried and skipped.
+     * <p>
+     * The container does not observe batch listeners, so tracing is done here: each record
+     * gets a consumer span in the trace of the request that produced it, ending when the
+     * batch is stored, and the storing itself runs in one batch span linked to those records.
+     */
     @KafkaListener(topics = "task-events", groupId = "notification-service-group")
-    public void consumeTaskEvent(TaskEvent event) {
-        try {
-            log.info("Received task event: {} for task: {}", event.getEventType(), event.getTaskTitle());
-            
-            String message = buildNotificationMessage(event);
-            
-            // Create notification for the assignee
-            notificationService.createNotification(
-                event.getAssigneeId(),
-                message,
-                event.getEventType()
-            );
-            
-            log.info("Successfully processed task event: {}", event.getEventType());
+    @Timed("taskmanager.kafka.consume")
+    public void consumeTaskEvents(List<ConsumerRecord<String, TaskEvent>> records) {
+        List<Notification> notifications = new ArrayList<>(records.size());
+        // The record each notification was built from, to report the one that cannot be stored
+        List<ConsumerRecord<String, TaskEvent>> sources = new ArrayList<>(records.size());
+        // How long each event waited between the producer's send and this batch
+        Timer eventDelay = meterRegistry.timer("taskmanager.task.event.delay");
+        long now = System.currentTimeMillis();
+        
+        List<Span> recordSpans = new ArrayList<>(records.size());
+        
+        for (ConsumerRecord<String, TaskEvent> record : records) {
+            eventDelay.record(Math.max(0, now - record.timestamp()), TimeUnit.MILLISECONDS);
+            recordSpans.add(receiveSpan(record));
+            TaskEvent event = record.value();
+            if (event == null || event.getAssigneeId() == null || event.getEventType() == null) {
+                log.warn("Skipping unreadable task event at {}-{}@{}",
+                    record.topic(), record.partition(), record.offset());
+                continue;
+            }
             
-        } catch (Exception e) {
-            log.error("Error processing task event: {}", event.getEventType(), e);
+            Notification notification = new Notification();
+            notification.setUserId(event.getAssigneeId());
+            notification.setMessage(buildNotificationMessage(event));
+            notification.setType(event.getEventType());
+            notification.setIsRead(false);
+            notifications.add(notification);
+            sources.add(record);
+        }
+        
+        Span batchSpan = batchSpan(records.size(), recordSpans);
+        try (Tracer.SpanInScope ignored = tracer.withSpan(batchSpan)) {
+            if (!notifications.isEmpty()) {
+                store(notifications, sources);
+            }
+        } catch (RuntimeException e) {
+            batchSpan.error(e);
+            recordSpans.forEach(span -> span.error(e));
+            throw e;
+        } finally {
+            batchSpan.end();
+            recordSpans.forEach(Span::end);
+        }
+        log.info("Processed batch of {} task events into {} notifications", records.size(), notifications.size());
+    }
+    
+    private void store(List<Notification> notifications, List<ConsumerRecord<String, TaskEvent>> sources) {
+        try {
+            storedAndCommitted(notificationService.createNotifications(notifications));
+            return;
+        } catch (RuntimeException e) {
+            if (notifications.size() == 1) {
+                throw new BatchListenerFailedException("Could not store notification", e, sources.get(0));
+            }
+            log.warn("Batch insert of {} notifications failed, storing them one by one: {}",
+                notifications.size(), e.toString());
+        }
+        for (int i = 0; i < notifications.size(); i++) {
+            Notification notification = notifications.get(i);
+            // The rolled back batch may have assigned ids; these rows were never stored
+            notification.setId(null);
+            try {
+                storedAndCommitted(notificationService.createNotifications(List.of(notification)));
+            } catch (RuntimeException e) {
+                // Offsets before this record are committed; it and the rest are redelivered
+                throw new BatchListenerFailedException("Could not store notification", e, sources.get(i));
+            }
+        }
+    }
+    
+    /**
+     * Committed at this point, so counters and open streams can follow
+     */
+    private void storedAndCommitted(List<Notification> saved) {
+        saved.forEach(notification -> unreadCounterStore.addIfPresent(notification.getUserId(), 1));
+        notificationPushService.publish(saved);
+    }
+    
+    /**
+     * Child of the traceparent header the producer wrote; a new trace for records without one
+     */
+    private Span receiveSpan(ConsumerRecord<String, TaskEvent> record) {
+        return propagator.extract(record.headers(), KAFKA_HEADERS)
+                .kind(Span.Kind.CONSUMER)
+                .name(record.topic() + " receive")
+                .tag("messaging.kafka.partition", record.partition())
+                .tag("messaging.kafka.offset", record.offset())
+                .start();
+    }
+    
+    private Span batchSpan(int size, List<Span> recordSpans) {
+        Span.Builder builder = tracer.spanBuilder()
+                .setNoParent()
+                .name("task-events batch")
+                .tag("messaging.batch.message_count", size);
+        for (Span recordSpan : recordSpans) {
+            if (Boolean.TRUE.equals(recordSpan.context().sampled())) {
+                builder.addLink(new Link(recordSpan));
+            }
+        }
+        return builder.start();
+    }
+    
+    /**
+     * The template around an unbounded task title and project name can exceed the column
+     */
+    String buildNotificationMessage(TaskEvent event) {
+        String message = formatNotificationMessage(event);
+        if (message.length() <= Notification.MESSAGE_MAX_LENGTH) {
+            return message;
+        }
+        int end = Notification.MESSAGE_MAX_LENGTH - 3;
+        if (Character.isHighSurrogate(message.charAt(end - 1))) {
+            end--;
         }
+        return message.substring(0, end) + "...";
     }
     
-    private String buildNotificationMessage(TaskEvent event) {
+    private String formatNotificationMessage(TaskEvent event) {
         switch (event.getEventType()) {
             case "TASK_CREATED":
                 return String.format("You have been assigned to task: '%s' in project '%s'",
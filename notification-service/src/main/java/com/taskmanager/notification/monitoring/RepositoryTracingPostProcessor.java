@@ -0,0 +1,59 @@
+package com.taskmanager.notification.monitoring;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Gives every Spring Data repository call its own span, named like TaskRepository.findById,
+ * so a trace shows which queries a request spent its time in. Calls made outside a trace
+ * (startup checks, jobs without an observation) are not traced.
+ *
+ * Copied into user-service, project-service and notification-service; only the package
+ * differs. scripts/check-shared-copies.sh compares the copies.
+ */
+@Component
+@RequiredArgsConstructor
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<Tracer> tracer;
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+            repositoryFactoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(new SpanInterceptor(
+                            tracer.getObject(), repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    @RequiredArgsConstructor
+    private static class SpanInterceptor implements MethodInterceptor {
+
+        private final Tracer tracer;
+        private final String repositoryName;
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (tracer.currentSpan() == null) {
+                return invocation.proceed();
+            }
+            Span span = tracer.nextSpan().name(repositoryName + "." + invocation.getMethod().getName()).start();
+            try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            } finally {
+                span.end();
+            }
+        }
+    }
+}
@@ -1,11 +1,18 @@
 package com.taskmanager.notification.repository;
 
+import com.taskmanager.notification.dto.NotificationsVersion;
+import com.taskmanager.notification.dto.UserUnreadCount;
 import com.taskmanager.notification.entity.Notification;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,7 +20,47 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     Page<Notification> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
     
+    // Keyset feed: first slice, then everything strictly after the (createdAt, id) cursor
+    List<Notification> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable limit);
+    
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findFeedAfter(@Param("userId") Long userId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable limit);
+    
+    // Stream resume: everything created after a point in time, oldest first
+    @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.createdAt > :since " +
+           "ORDER BY n.createdAt ASC, n.id ASC")
+    List<Notification> findCreatedSince(@Param("userId") Long userId,
+                                        @Param("since") LocalDateTime since,
+                                        Pageable limit);
+    
     Long countByUserIdAndIsReadFalse(Long userId);
     
-    List<Notification> findByUserIdAndIsReadFalse(Long userId);
+    // Unread rows newer than the user's read watermark; a range scan on idx_notifications_user_unread
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.isRead = false " +
+           "AND n.createdAt > :readBefore")
+    Long countUnreadAfter(@Param("userId") Long userId, @Param("readBefore") LocalDateTime readBefore);
+    
+    @Query("SELECT new com.taskmanager.notification.dto.NotificationsVersion(" +
+           "MAX(n.id), SUM(CASE WHEN n.isRead = false THEN 1L ELSE 0L END)) " +
+           "FROM Notification n WHERE n.userId = :userId")
+    NotificationsVersion findVersionByUserId(@Param("userId") Long userId);
+    
+    @Query("SELECT new com.taskmanager.notification.dto.UserUnreadCount(n.userId, COUNT(n)) " +
+           "FROM Notification n WHERE n.isRead = false AND n.userId IN :userIds GROUP BY n.userId")
+    List<UserUnreadCount> countUnreadByUserIds(@Param("userIds") Collection<Long> userIds);
+    
+    @Query("SELECT new com.taskmanager.notification.dto.UserUnreadCount(n.userId, COUNT(n)) " +
+           "FROM Notification n LEFT JOIN ReadWatermark w ON w.userId = n.userId " +
+           "WHERE n.isRead = false AND n.userId IN :userIds " +
+           "AND (w.readBefore IS NULL OR n.createdAt > w.readBefore) GROUP BY n.userId")
+    List<UserUnreadCount> countUnreadAfterWatermarkByUserIds(@Param("userIds") Collection<Long> userIds);
+    
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
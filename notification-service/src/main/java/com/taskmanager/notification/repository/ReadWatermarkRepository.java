@@ -0,0 +1,22 @@
+package com.taskmanager.notification.repository;
+
+import com.taskmanager.notification.entity.ReadWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ReadWatermarkRepository extends JpaRepository<ReadWatermark, Long> {
+    
+    // Single-statement upsert; never moves a watermark backwards
+    @Modifying
+    @Query(value = "INSERT INTO notification_read_watermarks (user_id, read_before) VALUES (:userId, :readBefore) " +
+                   "ON CONFLICT (user_id) DO UPDATE SET read_before = " +
+                   "GREATEST(notification_read_watermarks.read_before, EXCLUDED.read_before)",
+           nativeQuery = true)
+    int advance(@Param("userId") Long userId, @Param("readBefore") LocalDateTime readBefore);
+}
@@ -0,0 +1,102 @@
+package com.taskmanager.notification.security;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Verifies the identity headers signed by the api-gateway.
+ *
+ * Only active when gateway.identity.trust-headers=true. The gateway has already
+ * verified the JWT, so a valid HMAC over X-User-Id/Role/Email/Expires is enough to
+ * build the SecurityContext without a second signature check on the token.
+ * Requests without valid headers fall back to normal JWT authentication.
+ *
+ * Copied into user-service, project-service and notification-service; only the package
+ * differs. Keep the copies, and the payload format of the gateway's IdentityHeaderSigner,
+ * in step - scripts/check-shared-copies.sh compares the copies.
+ */
+@Component
+@Slf4j
+public class GatewayIdentityVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    @Value("${gateway.identity.trust-headers:false}")
+    private boolean enabled;
+
+    @Value("${gateway.identity.secret:${jwt.secret}}")
+    private String secret;
+
+    private SecretKeySpec keySpec;
+
+    // Mac instances are not thread-safe; keep one per request thread
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+
+    @PostConstruct
+    void init() {
+        keySpec = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Return the gateway-verified identity, or null when the headers are missing,
+     * expired or not signed by the gateway
+     */
+    public GatewayIdentity verify(HttpServletRequest request) {
+        String userId = request.getHeader("X-User-Id");
+        String role = request.getHeader("X-User-Role");
+        String email = request.getHeader("X-User-Email");
+        String expires = request.getHeader("X-User-Expires");
+        String signature = request.getHeader("X-User-Signature");
+
+        if (userId == null || role == null || email == null || expires == null || signature == null) {
+            return null;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(expires);
+            if (expiresAt * 1000 <= System.currentTimeMillis()) {
+                return null;
+            }
+
+            String canonical = userId + '\n' + role + '\n' + email + '\n' + expiresAt;
+            byte[] expected = macs.get().doFinal(canonical.getBytes(StandardCharsets.UTF_8));
+            byte[] actual = Base64.getUrlDecoder().decode(signature);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                log.warn("Rejected identity headers with invalid gateway signature");
+                return null;
+            }
+
+            return new GatewayIdentity(Long.parseLong(userId), email, role);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected malformed identity headers: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(keySpec);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialise " + ALGORITHM, e);
+        }
+    }
+
+    public record GatewayIdentity(Long userId, String email, String role) {
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskmanager.notification.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +21,7 @@ import java.util.Collections;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
     @Override
     protected void doFilterInternal(
@@ -34,6 +36,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
+        // Gateway-trusted mode: accept the identity the gateway already verified
+        if (gatewayIdentityVerifier.isEnabled() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            GatewayIdentityVerifier.GatewayIdentity identity = gatewayIdentityVerifier.verify(request);
+            if (identity != null) {
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        String.valueOf(identity.userId()),
+                        null,
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + identity.role()))
+                );
+
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+
         final String authHeader = request.getHeader("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -43,14 +61,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String userEmail = jwtUtil.extractEmail(jwt);
+            final Claims claims = jwtUtil.parseClaims(jwt); // single parse + signature check
+            final String userEmail = claims.getSubject();
+            final Long userId = claims.get("userId", Long.class);
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtUtil.validateToken(jwt, userEmail)) {
-                    String role = jwtUtil.extractRole(jwt);
+            if (userEmail != null && userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                if (jwtUtil.isValid(claims)) {
+                    String role = claims.get("role", String.class);
                     
+                    // userId is the principal, as NotificationController expects
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userEmail,
+                            String.valueOf(userId),
                             null,
                             Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
                     );
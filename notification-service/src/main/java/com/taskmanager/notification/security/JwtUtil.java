@@ -1,25 +1,33 @@
 package com.taskmanager.notification.security;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
 
 @Component
 public class JwtUtil {
     
     @Value("${jwt.secret}")
     private String secret;
-    
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    private SecretKey signingKey;
+
+    // Verification and the claims cache are shared with the other services' JwtUtil
+    private JwtClaimsCache claimsCache;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        claimsCache = new JwtClaimsCache(signingKey, claimsCacheMaxSize);
     }
     
     public String extractEmail(String token) {
@@ -41,12 +49,19 @@ public class JwtUtil {
     public boolean isTokenExpired(String token) {
         return extractClaims(token).getExpiration().before(new Date());
     }
+
+    public boolean isValid(Claims claims) {
+        return claimsCache.isValid(claims);
+    }
+
+    /**
+     * Parse and verify the token once; repeated calls for the same token hit the claims cache
+     */
+    public Claims parseClaims(String token) {
+        return claimsCache.parse(token);
+    }
     
     private Claims extractClaims(String token) {
-    return Jwts.parser()
-            .verifyWith(getSigningKey())
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        return parseClaims(token);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,228 @@
+package com.taskmanager.notification.service;
+
+import com.taskmanager.notification.dto.FeedCursor;
+import com.taskmanager.notification.dto.NotificationResponse;
+import com.taskmanager.notification.entity.Notification;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes new notifications to users connected over Server-Sent Events.
+ * <p>
+ * Connections are async (no request thread is held while idle). Every connection owns a
+ * bounded outbound queue drained by a small shared sender pool; a client that falls
+ * more than queue-capacity events behind is disconnected and resumes via Last-Event-ID.
+ * The replayed backlog is sent from its own list ahead of the queue, so a long replay
+ * does not count against the queue capacity.
+ * Fan-out covers the connections held by this instance.
+ */
+@Service
+@Slf4j
+public class NotificationPushService {
+    
+    private static final String EVENT_NAME = "notification";
+    
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ExecutorService sender;
+    private final ScheduledExecutorService heartbeat;
+    
+    @Value("${notification.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+    
+    @Value("${notification.stream.queue-capacity:256}")
+    private int queueCapacity;
+    
+    public NotificationPushService(
+            @Value("${notification.stream.sender-threads:4}") int senderThreads,
+            @Value("${notification.stream.heartbeat-interval-ms:15000}") long heartbeatIntervalMs) {
+        this.sender = Executors.newFixedThreadPool(senderThreads, daemon("sse-sender"));
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(daemon("sse-heartbeat"));
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats,
+            heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Open a stream for the user and send the replayed backlog ahead of any live event
+     */
+    public SseEmitter subscribe(Long userId, List<Notification> replay) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter, replay);
+        
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+        
+        // Same key as unsubscribe, so a subscriber closed in the meantime is never registered
+        subscribers.compute(userId, (id, set) -> {
+            if (subscriber.closed.get()) {
+                return set;
+            }
+            Set<Subscriber> registered = set != null ? set : ConcurrentHashMap.newKeySet();
+            registered.add(subscriber);
+            connectionCount.incrementAndGet();
+            return registered;
+        });
+        subscriber.scheduleDrain();
+        
+        log.debug("User {} opened a notification stream ({} open)", userId, connectionCount.get());
+        return emitter;
+    }
+    
+    /**
+     * Deliver freshly stored notifications to their owners' open streams, if any
+     */
+    public void publish(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            Set<Subscriber> targets = subscribers.get(notification.getUserId());
+            if (targets == null) {
+                continue;
+            }
+            SseEmitter.SseEventBuilder event = toEvent(notification);
+            for (Subscriber subscriber : targets) {
+                subscriber.offer(event);
+                subscriber.scheduleDrain();
+            }
+        }
+    }
+    
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+    
+    private void sendHeartbeats() {
+        SseEmitter.SseEventBuilder ping = SseEmitter.event().comment("heartbeat");
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                // A full queue already has traffic pending, no need to ping
+                if (subscriber.pending.get() == 0) {
+                    subscriber.offer(ping);
+                    subscriber.scheduleDrain();
+                }
+            }
+        }
+    }
+    
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            if (set.remove(subscriber)) {
+                connectionCount.decrementAndGet();
+            }
+            return set.isEmpty() ? null : set;
+        });
+    }
+    
+    private static SseEmitter.SseEventBuilder toEvent(Notification notification) {
+        NotificationResponse payload = new NotificationResponse(
+            notification.getId(),
+            notification.getMessage(),
+            notification.getType(),
+            notification.getIsRead(),
+            notification.getCreatedAt()
+        );
+        return SseEmitter.event()
+            .id(new FeedCursor(notification.getCreatedAt(), notification.getId()).encode())
+            .name(EVENT_NAME)
+            .data(payload, MediaType.APPLICATION_JSON);
+    }
+    
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    private final class Subscriber {
+        
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        // Only touched by the draining thread
+        private final Queue<Notification> replay;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        
+        Subscriber(Long userId, SseEmitter emitter, List<Notification> replay) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.replay = new ArrayDeque<>(replay);
+        }
+        
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (pending.incrementAndGet() > queueCapacity) {
+                // Slow consumer: drop the connection rather than buffer without bound
+                log.debug("Notification stream of user {} fell behind, disconnecting", userId);
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            queue.add(event);
+        }
+        
+        void scheduleDrain() {
+            if (!closed.get() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+        
+        private void drain() {
+            try {
+                Notification missed;
+                while (!closed.get() && (missed = replay.poll()) != null) {
+                    emitter.send(toEvent(missed));
+                }
+                SseEmitter.SseEventBuilder event;
+                while (!closed.get() && (event = queue.poll()) != null) {
+                    pending.decrementAndGet();
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                unsubscribe(this);
+                emitter.completeWithError(e);
+            } finally {
+                draining.set(false);
+            }
+            // Re-check: an event may have been queued after the loop saw an empty queue
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
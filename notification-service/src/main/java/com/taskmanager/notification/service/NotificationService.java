@@ -1,23 +1,52 @@
 package com.taskmanager.notification.service;
 
+import com.taskmanager.notification.dto.CursorPage;
+import com.taskmanager.notification.dto.FeedCursor;
+import com.taskmanager.notification.dto.NotificationsVersion;
+import com.taskmanager.notification.dto.PageSize;
+import com.taskmanager.notification.dto.UserUnreadCount;
 import com.taskmanager.notification.entity.Notification;
+import com.taskmanager.notification.entity.ReadWatermark;
 import com.taskmanager.notification.repository.NotificationRepository;
+import com.taskmanager.notification.repository.ReadWatermarkRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed("taskmanager.service")
 public class NotificationService {
     
     private final NotificationRepository notificationRepository;
+    private final ReadWatermarkRepository readWatermarkRepository;
+    private final UnreadCounterStore unreadCounterStore;
+    
+    @Value("${notification.read-watermark.enabled:false}")
+    private boolean readWatermarkEnabled;
+    
+    @Value("${notification.stream.replay-limit:500}")
+    private int replayLimit;
+    
+    @Value("${notification.stream.replay-grace-ms:5000}")
+    private long replayGraceMs;
     
     @Transactional
     public Notification createNotification(Long userId, String message, String type) {
@@ -32,13 +61,111 @@ public class NotificationService {
         return saved;
     }
     
+    /**
+     * Persist a batch of notifications in one transaction; the sequence-based id lets
+     * Hibernate group the inserts into JDBC batches.
+     */
+    @Transactional
+    public List<Notification> createNotifications(List<Notification> notifications) {
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        log.debug("Created {} notifications", saved.size());
+        return saved;
+    }
+    
     public Page<Notification> getUserNotifications(Long userId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, PageSize.check(size));
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
     
+    /**
+     * Keyset slice of a user's notifications, newest first. Asks for one extra row
+     * to know whether another slice exists, so no count query is needed.
+     */
+    public CursorPage<Notification> getUserNotificationFeed(Long userId, FeedCursor cursor, int size) {
+        Pageable limit = PageRequest.of(0, PageSize.check(size) + 1);
+        List<Notification> rows = cursor == null
+            ? notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+            : notificationRepository.findFeedAfter(userId, cursor.createdAt(), cursor.id(), limit);
+        
+        boolean hasNext = rows.size() > size;
+        List<Notification> notifications = hasNext ? rows.subList(0, size) : rows;
+        
+        String nextCursor = null;
+        if (hasNext) {
+            Notification last = notifications.get(notifications.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(notifications, nextCursor, hasNext);
+    }
+    
+    /**
+     * Notifications a reconnecting stream may have missed since the given event cursor.
+     * Concurrent consumers commit slightly out of createdAt order, so the window reaches
+     * back replay-grace-ms before the cursor; clients drop duplicates by notification id.
+     */
+    public List<Notification> getStreamReplay(Long userId, FeedCursor lastEvent) {
+        if (lastEvent == null) {
+            return List.of();
+        }
+        LocalDateTime since = lastEvent.createdAt().minus(Duration.ofMillis(replayGraceMs));
+        return notificationRepository.findCreatedSince(userId, since, PageRequest.of(0, replayLimit));
+    }
+    
+    /**
+     * Served from UnreadCounterStore; only the first poll of a user (or after a restart) queries the DB
+     */
     public Long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        long cached = unreadCounterStore.get(userId);
+        if (cached != UnreadCounterStore.MISSING) {
+            return cached;
+        }
+        return unreadCounterStore.putIfAbsent(userId, countUnreadInDatabase(userId));
+    }
+    
+    private long countUnreadInDatabase(Long userId) {
+        LocalDateTime readBefore = getReadWatermark(userId);
+        if (readBefore == null) {
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+        return notificationRepository.countUnreadAfter(userId, readBefore);
+    }
+    
+    /**
+     * Authoritative unread counts for many users in one query; users without unread rows are absent
+     */
+    public Map<Long, Long> countUnreadInDatabase(Collection<Long> userIds) {
+        List<UserUnreadCount> counts = readWatermarkEnabled
+            ? notificationRepository.countUnreadAfterWatermarkByUserIds(userIds)
+            : notificationRepository.countUnreadByUserIds(userIds);
+        
+        Map<Long, Long> result = new HashMap<>();
+        counts.forEach(count -> result.put(count.getUserId(), count.getCount()));
+        return result;
+    }
+    
+    /**
+     * ETag of a user's notification list and feed, checked before any page is loaded
+     */
+    public String getNotificationsETag(Long userId) {
+        NotificationsVersion version = notificationRepository.findVersionByUserId(userId);
+        LocalDateTime readBefore = getReadWatermark(userId);
+        return "notifications-" + userId
+            + "-" + (version.getMaxId() != null ? version.getMaxId() : 0)
+            + "-" + (version.getUnreadFlags() != null ? version.getUnreadFlags() : 0)
+            + "-" + (readBefore != null ? readBefore.toInstant(ZoneOffset.UTC).toEpochMilli() : 0);
+    }
+    
+    /**
+     * Notifications created at or before the returned instant count as read regardless of
+     * their isRead flag. Null when watermarks are disabled or the user never read all.
+     */
+    public LocalDateTime getReadWatermark(Long userId) {
+        if (!readWatermarkEnabled) {
+            return null;
+        }
+        return readWatermarkRepository.findById(userId)
+            .map(ReadWatermark::getReadBefore)
+            .orElse(null);
     }
     
     @Transactional
@@ -50,18 +177,40 @@ public class NotificationService {
             throw new RuntimeException("Unauthorized: This notification doesn't belong to you");
         }
         
+        LocalDateTime readBefore = getReadWatermark(userId);
+        boolean countedAsUnread = !notification.getIsRead()
+            && (readBefore == null || notification.getCreatedAt().isAfter(readBefore));
+        
         notification.setIsRead(true);
         notificationRepository.save(notification);
+        if (countedAsUnread) {
+            afterCommit(() -> unreadCounterStore.addIfPresent(userId, -1));
+        }
         log.info("Marked notification {} as read for user {}", notificationId, userId);
     }
     
     @Transactional
     public void markAllAsRead(Long userId) {
-        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndIsReadFalse(userId);
-        
-        unreadNotifications.forEach(notification -> notification.setIsRead(true));
-        notificationRepository.saveAll(unreadNotifications);
+        if (readWatermarkEnabled) {
+            // O(1): one upsert instead of touching every unread row
+            readWatermarkRepository.advance(userId, LocalDateTime.now());
+            afterCommit(() -> unreadCounterStore.set(userId, 0));
+            log.info("Advanced read watermark for user {}", userId);
+            return;
+        }
         
-        log.info("Marked {} notifications as read for user {}", unreadNotifications.size(), userId);
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        afterCommit(() -> unreadCounterStore.set(userId, 0));
+        log.info("Marked {} notifications as read for user {}", updated, userId);
+    }
+    
+    // Counters must never show a state the database rolled back
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.taskmanager.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Periodically re-derives every tracked unread counter from the database, repairing drift
+ * from missed increments (e.g. notifications written by another instance) or lost races.
+ * Counters nobody read within idle-eviction-ms are dropped first instead of reconciled.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UnreadCountReconciler {
+    
+    private final UnreadCounterStore unreadCounterStore;
+    private final NotificationService notificationService;
+    
+    @Value("${notification.unread-counter.reconcile-batch-size:500}")
+    private int batchSize;
+    
+    @Value("${notification.unread-counter.idle-eviction-ms:1800000}")
+    private long idleEvictionMs;
+    
+    @Scheduled(initialDelayString = "${notification.unread-counter.reconcile-interval-ms:60000}",
+               fixedDelayString = "${notification.unread-counter.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        int evicted = unreadCounterStore.evictIdle(idleEvictionMs);
+        if (evicted > 0) {
+            log.debug("Evicted {} idle unread counters", evicted);
+        }
+        
+        long[] userIds = unreadCounterStore.userIds();
+        int corrected = 0;
+        
+        for (int from = 0; from < userIds.length; from += batchSize) {
+            int to = Math.min(from + batchSize, userIds.length);
+            try {
+                corrected += reconcileChunk(userIds, from, to);
+            } catch (Exception e) {
+                log.warn("Unread counter reconciliation failed for {} users: {}", to - from, e.getMessage());
+            }
+        }
+        
+        if (corrected > 0) {
+            log.info("Reconciled unread counters: {} of {} corrected", corrected, userIds.length);
+        }
+    }
+    
+    private int reconcileChunk(long[] userIds, int from, int to) {
+        List<Long> chunk = new ArrayList<>(to - from);
+        long[] expected = new long[to - from];
+        for (int i = from; i < to; i++) {
+            chunk.add(userIds[i]);
+            expected[i - from] = unreadCounterStore.peek(userIds[i]);
+        }
+        
+        Map<Long, Long> actual = notificationService.countUnreadInDatabase(chunk);
+        
+        int corrected = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            long userId = chunk.get(i);
+            long count = actual.getOrDefault(userId, 0L);
+            // Skip counters that moved while we were querying; the next run picks them up
+            if (expected[i] != count && unreadCounterStore.replace(userId, expected[i], count)) {
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+}
@@ -0,0 +1,296 @@
+package com.taskmanager.notification.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Per-user unread counters held in memory so /unread-count polls do not hit Postgres.
+ * <p>
+ * Keys and values are primitive longs in open-addressing tables; the key space is split
+ * over a fixed number of stripes, each guarded by its own monitor, so concurrent updates
+ * for different users rarely contend and no boxing happens on the hot path.
+ * <p>
+ * Each counter remembers when it was last read; {@link #evictIdle} drops the ones nobody
+ * polled for a while, so the tables hold active users rather than everyone ever counted.
+ */
+@Component
+public class UnreadCounterStore {
+    
+    /** Returned by {@link #get} for users that have no counter yet */
+    public static final long MISSING = -1L;
+    
+    private static final int STRIPE_BITS = 6;
+    private static final int INITIAL_STRIPE_CAPACITY = 64;
+    
+    private final Stripe[] stripes = new Stripe[1 << STRIPE_BITS];
+    private final LongSupplier clock;
+    
+    public UnreadCounterStore() {
+        this(System::currentTimeMillis);
+    }
+    
+    UnreadCounterStore(LongSupplier clock) {
+        this.clock = clock;
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe(INITIAL_STRIPE_CAPACITY);
+        }
+    }
+    
+    /**
+     * A user's counter, or {@link #MISSING}; counts as a use that keeps the counter from eviction
+     */
+    public long get(long userId) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            return stripe.read(userId, clock.getAsLong());
+        }
+    }
+    
+    /**
+     * Like {@link #get} without counting as a use, for background work
+     */
+    public long peek(long userId) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            return stripe.get(userId);
+        }
+    }
+    
+    /**
+     * Install a freshly loaded count unless another thread got there first; returns the current value
+     */
+    public long putIfAbsent(long userId, long count) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            long current = stripe.get(userId);
+            if (current != MISSING) {
+                return current;
+            }
+            stripe.put(userId, count, clock.getAsLong());
+            return count;
+        }
+    }
+    
+    public void set(long userId, long count) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            stripe.put(userId, count, clock.getAsLong());
+        }
+    }
+    
+    /**
+     * Apply a delta to a tracked user; untracked users are left alone and loaded on their next read
+     */
+    public void addIfPresent(long userId, long delta) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            long current = stripe.get(userId);
+            if (current != MISSING) {
+                stripe.put(userId, Math.max(0L, current + delta), clock.getAsLong());
+            }
+        }
+    }
+    
+    /**
+     * Overwrite a counter only if nothing changed it since expected was read
+     */
+    public boolean replace(long userId, long expected, long count) {
+        Stripe stripe = stripeFor(userId);
+        synchronized (stripe) {
+            if (stripe.get(userId) != expected) {
+                return false;
+            }
+            stripe.put(userId, count, clock.getAsLong());
+            return true;
+        }
+    }
+    
+    /**
+     * Drop counters not read within idleMillis; returns how many were dropped. An evicted user
+     * is loaded from the database again on their next read.
+     */
+    public int evictIdle(long idleMillis) {
+        long readSince = clock.getAsLong() - idleMillis;
+        int evicted = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                evicted += stripe.evictReadBefore(readSince);
+            }
+        }
+        return evicted;
+    }
+    
+    /**
+     * Snapshot of all tracked user ids, for background reconciliation
+     */
+    public long[] userIds() {
+        long[][] perStripe = new long[stripes.length][];
+        int total = 0;
+        for (int i = 0; i < stripes.length; i++) {
+            synchronized (stripes[i]) {
+                perStripe[i] = stripes[i].keys();
+            }
+            total += perStripe[i].length;
+        }
+        
+        long[] ids = new long[total];
+        int offset = 0;
+        for (long[] keys : perStripe) {
+            System.arraycopy(keys, 0, ids, offset, keys.length);
+            offset += keys.length;
+        }
+        return ids;
+    }
+    
+    private Stripe stripeFor(long userId) {
+        return stripes[(int) (mix(userId) >>> (64 - STRIPE_BITS))];
+    }
+    
+    // MurmurHash3 finalizer: spreads sequential ids over stripes and slots
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return key;
+    }
+    
+    /**
+     * Linear-probing long-to-long table with a last-read time per entry. Key 0 marks an empty
+     * slot and is stored aside. Entries are only removed by rebuilding the table, so no
+     * tombstones are needed.
+     */
+    private static final class Stripe {
+        
+        private long[] keys;
+        private long[] values;
+        private long[] lastRead;
+        private int size;
+        private boolean hasZeroKey;
+        private long zeroKeyValue;
+        private long zeroKeyLastRead;
+        
+        Stripe(int capacity) {
+            keys = new long[capacity];
+            values = new long[capacity];
+            lastRead = new long[capacity];
+        }
+        
+        long read(long key, long now) {
+            if (key == 0L) {
+                if (!hasZeroKey) {
+                    return MISSING;
+                }
+                zeroKeyLastRead = now;
+                return zeroKeyValue;
+            }
+            int slot = slotOf(keys, key);
+            if (keys[slot] != key) {
+                return MISSING;
+            }
+            lastRead[slot] = now;
+            return values[slot];
+        }
+        
+        long get(long key) {
+            if (key == 0L) {
+                return hasZeroKey ? zeroKeyValue : MISSING;
+            }
+            int slot = slotOf(keys, key);
+            return keys[slot] == key ? values[slot] : MISSING;
+        }
+        
+        /**
+         * A new entry starts as read at now; updating an existing one leaves its read time alone
+         */
+        void put(long key, long value, long now) {
+            if (key == 0L) {
+                if (!hasZeroKey) {
+                    hasZeroKey = true;
+                    zeroKeyLastRead = now;
+                }
+                zeroKeyValue = value;
+                return;
+            }
+            int slot = slotOf(keys, key);
+            if (keys[slot] != key) {
+                keys[slot] = key;
+                lastRead[slot] = now;
+                if (++size > keys.length / 2) {
+                    values[slot] = value;
+                    rehash(keys.length * 2);
+                    return;
+                }
+            }
+            values[slot] = value;
+        }
+        
+        int evictReadBefore(long readSince) {
+            int before = size + (hasZeroKey ? 1 : 0);
+            if (hasZeroKey && zeroKeyLastRead < readSince) {
+                hasZeroKey = false;
+            }
+            int live = 0;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] != 0L) {
+                    if (lastRead[i] < readSince) {
+                        keys[i] = 0L;
+                    } else {
+                        live++;
+                    }
+                }
+            }
+            size = live;
+            // Clearing slots breaks probe chains, so the survivors are always re-inserted
+            int capacity = INITIAL_STRIPE_CAPACITY;
+            while (live > capacity / 4) {
+                capacity *= 2;
+            }
+            rehash(capacity);
+            return before - size - (hasZeroKey ? 1 : 0);
+        }
+        
+        long[] keys() {
+            long[] result = new long[size + (hasZeroKey ? 1 : 0)];
+            int i = 0;
+            for (long key : keys) {
+                if (key != 0L) {
+                    result[i++] = key;
+                }
+            }
+            if (hasZeroKey) {
+                result[i] = 0L;
+            }
+            return result;
+        }
+        
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            long[] oldValues = values;
+            long[] oldLastRead = lastRead;
+            keys = new long[capacity];
+            values = new long[capacity];
+            lastRead = new long[capacity];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0L) {
+                    int slot = slotOf(keys, oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                    lastRead[slot] = oldLastRead[i];
+                }
+            }
+        }
+        
+        // Slot holding key, or the empty slot where it would be inserted
+        private static int slotOf(long[] table, long key) {
+            int mask = table.length - 1;
+            int slot = (int) mix(key) & mask;
+            while (table[slot] != 0L && table[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+    }
+}
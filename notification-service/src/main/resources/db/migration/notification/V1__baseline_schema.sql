@@ -0,0 +1,11 @@
+-- Baseline of the schema previously created by ddl-auto: update.
+-- IF NOT EXISTS lets this run unchanged on databases that already have the table.
+
+CREATE TABLE IF NOT EXISTS notifications (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id    BIGINT       NOT NULL,
+    message    VARCHAR(255) NOT NULL,
+    type       VARCHAR(255) NOT NULL,
+    is_read    BOOLEAN      NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
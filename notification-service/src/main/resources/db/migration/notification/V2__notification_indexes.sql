@@ -0,0 +1,11 @@
+-- Indexes for NotificationRepository.
+-- Keep IndexVerifier.EXPECTED_INDEXES in sync when adding or renaming one.
+
+-- Notification list and feed: WHERE user_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created
+    ON notifications (user_id, created_at DESC, id DESC);
+
+-- Unread count and mark-all-as-read only ever touch unread rows
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread
+    ON notifications (user_id, created_at DESC)
+    WHERE is_read = false;
@@ -0,0 +1,5 @@
+-- Pooled id sequence for batched inserts; must match allocationSize on Notification.id.
+-- Hibernate treats each nextval as the top of a 50-id block, so start above existing ids.
+CREATE SEQUENCE IF NOT EXISTS notification_id_seq INCREMENT BY 50;
+
+SELECT setval('notification_id_seq', COALESCE((SELECT MAX(id) FROM notifications), 0) + 50);
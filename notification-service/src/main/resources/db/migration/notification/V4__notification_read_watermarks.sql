@@ -0,0 +1,5 @@
+-- Optional "read all" watermark per user (notification.read-watermark.enabled)
+CREATE TABLE IF NOT EXISTS notification_read_watermarks (
+    user_id     BIGINT       PRIMARY KEY,
+    read_before TIMESTAMP(6) NOT NULL
+);
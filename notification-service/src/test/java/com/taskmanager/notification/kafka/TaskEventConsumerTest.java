@@ -0,0 +1,154 @@
+package com.taskmanager.notification.kafka;
+
+import com.taskmanager.notification.entity.Notification;
+import com.taskmanager.notification.kafka.dto.TaskEvent;
+import com.taskmanager.notification.service.NotificationPushService;
+import com.taskmanager.notification.service.NotificationService;
+import com.taskmanager.notification.service.UnreadCounterStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TaskEventConsumerTest {
+
+    private static final String TOPIC = "task-events";
+
+    private NotificationService notificationService;
+    private UnreadCounterStore unreadCounterStore;
+    private NotificationPushService notificationPushService;
+    private TaskEventConsumer consumer;
+
+    // What reached the database, one list per createNotifications call that succeeded
+    private final List<List<Notification>> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        notificationService = mock(NotificationService.class);
+        unreadCounterStore = mock(UnreadCounterStore.class);
+        notificationPushService = mock(NotificationPushService.class);
+        consumer = new TaskEventConsumer(notificationService, unreadCounterStore, notificationPushService,
+                new SimpleMeterRegistry(), Tracer.NOOP, Propagator.NOOP);
+    }
+
+    @Test
+    void storesWholeBatchInOneCall() {
+        acceptAll();
+
+        consumer.consumeTaskEvents(List.of(record(0, event(1L, "First")), record(1, event(2L, "Second"))));
+
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0)).extracting(Notification::getUserId).containsExactly(1L, 2L);
+        verify(unreadCounterStore).addIfPresent(1L, 1);
+        verify(unreadCounterStore).addIfPresent(2L, 1);
+    }
+
+    @Test
+    void skipsUnreadableRecordsWithoutFailingTheBatch() {
+        acceptAll();
+
+        consumer.consumeTaskEvents(List.of(record(0, null), record(1, event(2L, "Second"))));
+
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0)).extracting(Notification::getUserId).containsExactly(2L);
+    }
+
+    @Test
+    void poisonRecordIsReportedByItselfAfterStoringTheRecordsBeforeIt() {
+        // The batch insert fails, and so does the one notification for user 2 on its own
+        when(notificationService.createNotifications(anyList())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            if (notifications.size() > 1 || notifications.get(0).getUserId() == 2L) {
+                throw new DataIntegrityViolationException("value too long");
+            }
+            stored.add(List.copyOf(notifications));
+            return notifications;
+        });
+        ConsumerRecord<String, TaskEvent> poison = record(1, event(2L, "Poison"));
+
+        assertThatThrownBy(() -> consumer.consumeTaskEvents(
+                List.of(record(0, event(1L, "First")), poison, record(2, event(3L, "Third")))))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> {
+                    assertThat(e.getRecord()).isSameAs(poison);
+                    assertThat(e.getCause()).isInstanceOf(DataIntegrityViolationException.class);
+                });
+
+        // Only the record before the poison one is stored, counted and pushed
+        assertThat(stored).hasSize(1);
+        assertThat(stored.get(0)).extracting(Notification::getUserId).containsExactly(1L);
+        verify(unreadCounterStore).addIfPresent(1L, 1);
+        verify(unreadCounterStore, never()).addIfPresent(3L, 1);
+    }
+
+    @Test
+    void failedSingleRecordBatchIsReportedAsThatRecord() {
+        when(notificationService.createNotifications(anyList()))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        ConsumerRecord<String, TaskEvent> poison = record(0, event(1L, "Poison"));
+
+        assertThatThrownBy(() -> consumer.consumeTaskEvents(List.of(poison)))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class,
+                        e -> assertThat(e.getRecord()).isSameAs(poison));
+        verify(notificationPushService, never()).publish(anyList());
+    }
+
+    @Test
+    void longTitlesAreTruncatedToTheMessageColumn() {
+        TaskEvent event = event(1L, "x".repeat(255));
+
+        String message = consumer.buildNotificationMessage(event);
+
+        assertThat(message).hasSize(Notification.MESSAGE_MAX_LENGTH).endsWith("...");
+    }
+
+    @Test
+    void truncationDoesNotSplitSurrogatePairs() {
+        // 255 chars up to the cut point, then an emoji straddling it
+        String title = "x".repeat(Notification.MESSAGE_MAX_LENGTH) + "😀".repeat(10);
+
+        String message = consumer.buildNotificationMessage(event(1L, title));
+
+        assertThat(message.length()).isLessThanOrEqualTo(Notification.MESSAGE_MAX_LENGTH);
+        String kept = message.substring(0, message.length() - 3);
+        assertThat(Character.isHighSurrogate(kept.charAt(kept.length() - 1))).isFalse();
+    }
+
+    @Test
+    void shortMessagesAreKeptAsIs() {
+        assertThat(consumer.buildNotificationMessage(event(1L, "Short")))
+                .isEqualTo("Task 'Short' has been updated in project 'Apollo'");
+    }
+
+    private void acceptAll() {
+        when(notificationService.createNotifications(anyList())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            stored.add(List.copyOf(notifications));
+            return notifications;
+        });
+    }
+
+    private static ConsumerRecord<String, TaskEvent> record(long offset, TaskEvent event) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, event);
+    }
+
+    private static TaskEvent event(Long assigneeId, String title) {
+        return new TaskEvent("TASK_UPDATED", 100L + assigneeId, title, assigneeId, "Jane Doe",
+                7L, "Apollo", LocalDateTime.of(2024, 3, 1, 9, 30));
+    }
+}
@@ -0,0 +1,105 @@
+package com.taskmanager.notification.kafka.serde;
+
+import com.taskmanager.notification.kafka.dto.TaskEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskEventDeserializerTest {
+
+    private static final String TOPIC = "task-events";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void avroRoundTripKeepsEveryField() throws IOException {
+        TaskEvent event = event(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000));
+
+        byte[] data = TaskEventAvro.encode(event);
+
+        assertThat(TaskEventAvro.isAvro(data)).isTrue();
+        assertThat(new TaskEventDeserializer(false, meterRegistry).deserialize(TOPIC, data)).isEqualTo(event);
+        assertThat(meterRegistry.counter("taskmanager.task.events.read", "format", "avro").count()).isEqualTo(1);
+    }
+
+    @Test
+    void avroRoundTripKeepsNullOptionalFields() throws IOException {
+        TaskEvent event = new TaskEvent("TASK_CREATED", 11L, "Write tests", null, null, 7L, null, null);
+
+        TaskEvent decoded = TaskEventAvro.decode(TaskEventAvro.encode(event));
+
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void avroTimestampKeepsMicrosecondsAndDropsNanoseconds() throws IOException {
+        TaskEvent event = event(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_789));
+
+        TaskEvent decoded = TaskEventAvro.decode(TaskEventAvro.encode(event));
+
+        assertThat(decoded.getTimestamp()).isEqualTo(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000));
+    }
+
+    @Test
+    void avroTimestampBeforeEpochRoundTrips() throws IOException {
+        TaskEvent event = event(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 500_000_000));
+
+        assertThat(TaskEventAvro.decode(TaskEventAvro.encode(event)).getTimestamp()).isEqualTo(event.getTimestamp());
+    }
+
+    @Test
+    void jsonFromThePreviousSerializerIsReadWhenReadJsonIsOn() {
+        TaskEvent event = event(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_789));
+
+        byte[] data = oldJson(event);
+
+        assertThat(new TaskEventDeserializer(true, meterRegistry).deserialize(TOPIC, data)).isEqualTo(event);
+        assertThat(meterRegistry.counter("taskmanager.task.events.read", "format", "json").count()).isEqualTo(1);
+    }
+
+    @Test
+    void jsonIsRejectedWhenReadJsonIsOff() {
+        byte[] data = oldJson(event(LocalDateTime.of(2024, 3, 1, 9, 30)));
+
+        assertThatThrownBy(() -> new TaskEventDeserializer(false, meterRegistry).deserialize(TOPIC, data))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("read-json is off");
+    }
+
+    @Test
+    void jsonIsNotMistakenForAvro() {
+        assertThat(TaskEventAvro.isAvro(oldJson(event(LocalDateTime.of(2024, 3, 1, 9, 30))))).isFalse();
+        assertThat(TaskEventAvro.isAvro("{}".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(TaskEventAvro.isAvro(new byte[0])).isFalse();
+    }
+
+    @Test
+    void corruptAvroIsASerializationException() throws IOException {
+        byte[] data = TaskEventAvro.encode(event(LocalDateTime.of(2024, 3, 1, 9, 30)));
+        byte[] truncated = Arrays.copyOf(data, 12);
+
+        assertThatThrownBy(() -> new TaskEventDeserializer(true, meterRegistry).deserialize(TOPIC, truncated))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    // What project-service wrote before the Avro switch: Spring Kafka's JsonSerializer
+    private static byte[] oldJson(TaskEvent event) {
+        try (JsonSerializer<TaskEvent> serializer = new JsonSerializer<>()) {
+            serializer.setAddTypeInfo(false);
+            return serializer.serialize(TOPIC, event);
+        }
+    }
+
+    private static TaskEvent event(LocalDateTime timestamp) {
+        return new TaskEvent("TASK_ASSIGNED", 11L, "Write tests", 5L, "Ada", 7L, "Backlog", timestamp);
+    }
+}
@@ -0,0 +1,158 @@
+package com.taskmanager.notification.service;
+
+import com.taskmanager.notification.entity.Notification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class NotificationPushServiceTest {
+
+    private static final int QUEUE_CAPACITY = 4;
+    private static final long USER_ID = 7L;
+
+    private NotificationPushService pushService;
+    private MockMvc mockMvc;
+    private List<Notification> replay = List.of();
+
+    @BeforeEach
+    void setUp() {
+        // One sender thread, so a test can hold it to make a client fall behind
+        pushService = new NotificationPushService(1, 60_000);
+        ReflectionTestUtils.setField(pushService, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(pushService, "queueCapacity", QUEUE_CAPACITY);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController()).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pushService.shutdown();
+    }
+
+    @Test
+    void replayLongerThanTheQueueIsDeliveredInFullAndStaysConnected() throws Exception {
+        replay = notifications(1, 3 * QUEUE_CAPACITY);
+
+        MockHttpServletResponse response = openStream();
+
+        awaitTrue(() -> eventCount(response) == 3 * QUEUE_CAPACITY);
+        assertThat(pushService.getConnectionCount()).isEqualTo(1);
+
+        // Live events follow the replay on the same connection
+        pushService.publish(notifications(100, 1));
+        awaitTrue(() -> eventCount(response) == 3 * QUEUE_CAPACITY + 1);
+        assertThat(content(response)).contains("\"id\":100");
+    }
+
+    @Test
+    void clientFallingBehindIsDisconnectedAndNoLongerCounted() throws Exception {
+        MockHttpServletResponse response = openStream();
+        awaitTrue(() -> pushService.getConnectionCount() == 1);
+
+        CountDownLatch release = new CountDownLatch(1);
+        holdSender(release);
+        try {
+            pushService.publish(notifications(1, QUEUE_CAPACITY + 1));
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(pushService.getConnectionCount()).isZero();
+        // Nothing is left registered for the user, so later events go nowhere
+        pushService.publish(notifications(50, 1));
+        assertThat(content(response)).doesNotContain("\"id\":50");
+    }
+
+    @Test
+    void streamsOfTheSameUserAreCountedSeparately() throws Exception {
+        openStream();
+        openStream();
+
+        awaitTrue(() -> pushService.getConnectionCount() == 2);
+    }
+
+    private MockHttpServletResponse openStream() throws Exception {
+        MvcResult result = mockMvc.perform(get("/stream").param("userId", String.valueOf(USER_ID)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return result.getResponse();
+    }
+
+    private void holdSender(CountDownLatch release) throws InterruptedException {
+        ExecutorService sender = (ExecutorService) ReflectionTestUtils.getField(pushService, "sender");
+        CountDownLatch held = new CountDownLatch(1);
+        sender.execute(() -> {
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        held.await();
+    }
+
+    private static List<Notification> notifications(long firstId, int count) {
+        List<Notification> notifications = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long id = firstId + i;
+            notifications.add(new Notification(id, USER_ID, "Message " + id, "TASK_UPDATED", false,
+                    LocalDateTime.of(2024, 3, 1, 9, 0).plusSeconds(id)));
+        }
+        return notifications;
+    }
+
+    private static int eventCount(MockHttpServletResponse response) {
+        String content = content(response);
+        int count = 0;
+        for (int at = content.indexOf("event:notification"); at >= 0;
+             at = content.indexOf("event:notification", at + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    private static String content(MockHttpServletResponse response) {
+        try {
+            return response.getContentAsString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met within 5 s").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    @RestController
+    class StreamController {
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestParam Long userId) {
+            return pushService.subscribe(userId, replay);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskmanager.notification.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UnreadCounterStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final UnreadCounterStore store = new UnreadCounterStore(now::get);
+
+    @Test
+    void evictsCountersNotReadWithinTheIdleWindow() {
+        store.putIfAbsent(1L, 3);
+        store.putIfAbsent(2L, 5);
+        now.addAndGet(10_000);
+        store.get(2L);
+
+        assertThat(store.evictIdle(5_000)).isEqualTo(1);
+
+        assertThat(store.peek(1L)).isEqualTo(UnreadCounterStore.MISSING);
+        assertThat(store.peek(2L)).isEqualTo(5);
+    }
+
+    @Test
+    void writesAndPeeksDoNotKeepACounterAlive() {
+        store.putIfAbsent(1L, 3);
+        now.addAndGet(10_000);
+        store.addIfPresent(1L, 1);
+        store.peek(1L);
+
+        assertThat(store.evictIdle(5_000)).isEqualTo(1);
+        assertThat(store.userIds()).isEmpty();
+    }
+
+    @Test
+    void evictionKeepsSurvivorsReachableAcrossProbeChains() {
+        // Enough users to grow every stripe and build long probe chains
+        for (long userId = 0; userId < 20_000; userId++) {
+            store.putIfAbsent(userId, userId);
+        }
+        now.addAndGet(10_000);
+        for (long userId = 0; userId < 20_000; userId += 3) {
+            store.get(userId);
+        }
+
+        assertThat(store.evictIdle(5_000)).isEqualTo(20_000 - 6_667);
+
+        for (long userId = 0; userId < 20_000; userId++) {
+            long expected = userId % 3 == 0 ? userId : UnreadCounterStore.MISSING;
+            assertThat(store.peek(userId)).as("user %d", userId).isEqualTo(expected);
+        }
+        assertThat(store.userIds()).hasSize(6_667);
+
+        // The shrunken tables still accept new users
+        store.putIfAbsent(50_000L, 7);
+        assertThat(store.get(50_000L)).isEqualTo(7);
+    }
+
+    @Test
+    void addIfPresentIgnoresEvictedUsers() {
+        store.putIfAbsent(1L, 3);
+        now.addAndGet(10_000);
+        store.evictIdle(5_000);
+
+        store.addIfPresent(1L, 1);
+
+        assertThat(store.peek(1L)).isEqualTo(UnreadCounterStore.MISSING);
+    }
+}
@@ -3,7 +3,7 @@ package com.taskmanager.project;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
-import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Project Service Application
@@ -16,7 +16,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
  */
 @SpringBootApplication
 @EnableDiscoveryClient // NEW - Enable service registration with Eureka
-@EnableFeignClients
+@EnableScheduling // Drives OutboxRelay
 public class ProjectServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,149 @@
+package com.taskmanager.project.client;
+
+import com.taskmanager.project.client.dto.UserDTO;
+import com.taskmanager.project.exception.UserServiceUnavailableException;
+import feign.Request;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Guards every call to user-service with per-method timeouts, the "user-service" circuit
+ * breaker and a semaphore bulkhead (see resilience4j.* in application.yml).
+ * <p>
+ * When user-service is down, slow or saturated, read lookups fail fast and degrade: single
+ * lookups return a placeholder user named "Unknown", batch lookups return no users
+ * (callers already fall back to "Unknown"). {@link #requireUserById} never degrades and is
+ * meant for writes. Answers from a running user-service (404, 500, ...) are always thrown.
+ */
+@Component
+@Slf4j
+@Timed("taskmanager.client")
+public class ResilientUserServiceClient {
+
+    static final String UNKNOWN_NAME = "Unknown";
+    private static final String INSTANCE = "user-service";
+
+    private final UserServiceClient userServiceClient;
+    private final UserServiceAsyncClient userServiceAsyncClient;
+    private final Request.Options getUserOptions;
+    private final Request.Options batchOptions;
+
+    public ResilientUserServiceClient(UserServiceClient userServiceClient,
+            UserServiceAsyncClient userServiceAsyncClient,
+            @Value("${user-service.timeouts.connect:PT1S}") Duration connectTimeout,
+            @Value("${user-service.timeouts.get-user:PT1S}") Duration getUserTimeout,
+            @Value("${user-service.timeouts.batch:PT2S}") Duration batchTimeout) {
+        this.userServiceClient = userServiceClient;
+        this.userServiceAsyncClient = userServiceAsyncClient;
+        this.getUserOptions = options(connectTimeout, getUserTimeout);
+        this.batchOptions = options(connectTimeout, batchTimeout);
+    }
+
+    /**
+     * True for the stand-in returned while user-service is unavailable; such users must not be cached
+     */
+    public static boolean isPlaceholder(UserDTO user) {
+        return user.getEmail() == null && UNKNOWN_NAME.equals(user.getName());
+    }
+
+    @CircuitBreaker(name = INSTANCE, fallbackMethod = "getUserByIdFallback")
+    @Bulkhead(name = INSTANCE)
+    public UserDTO getUserById(Long id) {
+        return userServiceClient.getUserById(id, getUserOptions);
+    }
+
+    /**
+     * Like getUserById, but throws UserServiceUnavailableException instead of returning a placeholder
+     */
+    @CircuitBreaker(name = INSTANCE, fallbackMethod = "requireUserByIdFallback")
+    @Bulkhead(name = INSTANCE)
+    public UserDTO requireUserById(Long id) {
+        return userServiceClient.getUserById(id, getUserOptions);
+    }
+
+    @CircuitBreaker(name = INSTANCE, fallbackMethod = "getUsersByIdsFallback")
+    @Bulkhead(name = INSTANCE)
+    public List<UserDTO> getUsersByIds(Set<Long> ids) {
+        return userServiceClient.getUsersByIds(ids, batchOptions);
+    }
+
+    @CircuitBreaker(name = INSTANCE, fallbackMethod = "getUsersByIdsAsyncFallback")
+    @Bulkhead(name = INSTANCE, type = Bulkhead.Type.SEMAPHORE)
+    @TimeLimiter(name = INSTANCE)
+    public CompletableFuture<List<UserDTO>> getUsersByIdsAsync(Collection<Long> ids, String authorization) {
+        return userServiceAsyncClient.getUsersByIds(ids, authorization);
+    }
+
+    UserDTO getUserByIdFallback(Long id, Throwable t) throws Throwable {
+        rethrowUnlessUnavailable(t);
+        log.warn("user-service unavailable, using placeholder for user {}: {}", id, t.toString());
+        UserDTO placeholder = new UserDTO();
+        placeholder.setId(id);
+        placeholder.setName(UNKNOWN_NAME);
+        return placeholder;
+    }
+
+    UserDTO requireUserByIdFallback(Long id, Throwable t) throws Throwable {
+        rethrowUnlessUnavailable(t);
+        if (t instanceof UserServiceUnavailableException unavailable) {
+            throw unavailable;
+        }
+        throw new UserServiceUnavailableException("user-service unavailable, cannot resolve user " + id, t);
+    }
+
+    List<UserDTO> getUsersByIdsFallback(Set<Long> ids, Throwable t) throws Throwable {
+        rethrowUnlessUnavailable(t);
+        log.warn("user-service unavailable, {} users left unresolved: {}", ids.size(), t.toString());
+        return List.of();
+    }
+
+    CompletableFuture<List<UserDTO>> getUsersByIdsAsyncFallback(Collection<Long> ids, String authorization,
+            Throwable t) throws Throwable {
+        rethrowUnlessUnavailable(t);
+        log.warn("user-service unavailable, {} users left unresolved: {}", ids.size(), t.toString());
+        return CompletableFuture.completedFuture(List.of());
+    }
+
+    // Degrade only on infrastructure failures; everything else, including a 500, is a real answer
+    private static void rethrowUnlessUnavailable(Throwable t) throws Throwable {
+        Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+        boolean unavailable = cause instanceof CallNotPermittedException
+                || cause instanceof BulkheadFullException
+                || cause instanceof TimeoutException
+                || cause instanceof RetryableException
+                || cause instanceof UserServiceUnavailableException
+                || cause instanceof WebClientRequestException
+                || (cause instanceof WebClientResponseException response && isUnavailableStatus(response.getStatusCode().value()));
+        if (!unavailable) {
+            throw t;
+        }
+    }
+
+    private static boolean isUnavailableStatus(int status) {
+        return status == 502 || status == 503 || status == 504;
+    }
+
+    private static Request.Options options(Duration connectTimeout, Duration readTimeout) {
+        return new Request.Options(connectTimeout.toMillis(), TimeUnit.MILLISECONDS,
+                readTimeout.toMillis(), TimeUnit.MILLISECONDS, true);
+    }
+}
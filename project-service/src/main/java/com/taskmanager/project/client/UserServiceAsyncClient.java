@@ -0,0 +1,59 @@
+package com.taskmanager.project.client;
+
+import com.taskmanager.project.client.dto.UserDTO;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link UserServiceClient}. Calls run on Netty event-loop
+ * threads, so the bearer token cannot come from the request context and is passed in
+ * explicitly (may be null). The caller's observation is captured on subscribe, so the call
+ * is traced as a child of the request.
+ */
+@Component
+public class UserServiceAsyncClient {
+
+    private static final ParameterizedTypeReference<List<UserDTO>> USER_LIST = new ParameterizedTypeReference<>() {
+    };
+
+    private final WebClient webClient;
+
+    public UserServiceAsyncClient(WebClient.Builder loadBalancedWebClientBuilder) {
+        this.webClient = loadBalancedWebClientBuilder
+                .baseUrl("http://user-service")
+                .build();
+    }
+
+    public CompletableFuture<UserDTO> getUserById(Long id, String authorization) {
+        return webClient.get()
+                .uri("/api/users/{id}", id)
+                .headers(headers -> setAuthorization(headers, authorization))
+                .retrieve()
+                .bodyToMono(UserDTO.class)
+                .contextCapture()
+                .toFuture();
+    }
+
+    public CompletableFuture<List<UserDTO>> getUsersByIds(Collection<Long> ids, String authorization) {
+        return webClient.post()
+                .uri("/api/users/batch")
+                .headers(headers -> setAuthorization(headers, authorization))
+                .bodyValue(ids)
+                .retrieve()
+                .bodyToMono(USER_LIST)
+                .contextCapture()
+                .toFuture();
+    }
+
+    private static void setAuthorization(HttpHeaders headers, String authorization) {
+        if (authorization != null) {
+            headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        }
+    }
+}
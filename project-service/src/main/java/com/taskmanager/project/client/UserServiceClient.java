@@ -1,9 +1,15 @@
 package com.taskmanager.project.client;
 
 import com.taskmanager.project.client.dto.UserDTO;
+import feign.Request;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+import java.util.Set;
 
 @FeignClient(name = "user-service")
 public interface UserServiceClient {
@@ -11,6 +17,16 @@ public interface UserServiceClient {
     @GetMapping("/api/users/{id}")
     UserDTO getUserById(@PathVariable("id") Long id);
 
+    // Same call with per-request connect/read timeouts (Feign picks up the Options argument)
+    @GetMapping("/api/users/{id}")
+    UserDTO getUserById(@PathVariable("id") Long id, Request.Options options);
+
     @GetMapping("/api/users/email/{email}")
     UserDTO getUserByEmail(@PathVariable("email") String email);
-}
\ No newline at end of file
+
+    @PostMapping("/api/users/batch")
+    List<UserDTO> getUsersByIds(@RequestBody Set<Long> ids);
+
+    @PostMapping("/api/users/batch")
+    List<UserDTO> getUsersByIds(@RequestBody Set<Long> ids, Request.Options options);
+}
@@ -1,5 +1,7 @@
 package com.taskmanager.project.config;
 
+import com.taskmanager.project.exception.UserNotFoundException;
+import com.taskmanager.project.exception.UserServiceUnavailableException;
 import feign.RequestInterceptor;
 import feign.codec.ErrorDecoder;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,6 +30,7 @@ public class FeignConfig {
                     requestTemplate.header("Authorization", authHeader);
                 }
             }
+            // traceparent is added per call by Feign's Micrometer observation (feign-micrometer)
         };
     }
 
@@ -36,20 +39,23 @@ public class FeignConfig {
         return new CustomFeignErrorDecoder();
     }
 
-    private static class CustomFeignErrorDecoder implements ErrorDecoder {
+    static class CustomFeignErrorDecoder implements ErrorDecoder {
         private final ErrorDecoder defaultErrorDecoder = new Default();
 
         @Override
         public Exception decode(String methodKey, feign.Response response) {
+            // Only gateway and timeout answers mean user-service is unavailable; a 500 is a real error
             switch (response.status()) {
                 case 403:
                     return new RuntimeException("Access forbidden to user-service");
                 case 404:
-                    return new RuntimeException("Resource not found in user-service");
+                    return new UserNotFoundException("User not found in user-service");
                 case 401:
                     return new RuntimeException("Unauthorized access to user-service");
-                case 500:
-                    return new RuntimeException("Internal server error in user-service");
+                case 502:
+                case 503:
+                case 504:
+                    return new UserServiceUnavailableException("user-service unavailable (" + response.status() + ")");
                 default:
                     return defaultErrorDecoder.decode(methodKey, response);
             }
@@ -0,0 +1,56 @@
+package com.taskmanager.project.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Non-blocking HTTP client for user-service, resolved through Eureka like the Feign client
+ * but backed by a bounded, pooled Reactor Netty connection provider.
+ */
+@Configuration
+public class WebClientConfig {
+
+    @Value("${user-service.async-client.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${user-service.async-client.pending-acquire-timeout:PT2S}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${user-service.async-client.max-idle-time:PT30S}")
+    private Duration maxIdleTime;
+
+    @Value("${user-service.async-client.connect-timeout:PT1S}")
+    private Duration connectTimeout;
+
+    @Value("${user-service.async-client.response-timeout:PT3S}")
+    private Duration responseTimeout;
+
+    @Bean
+    @LoadBalanced
+    public WebClient.Builder loadBalancedWebClientBuilder(ObservationRegistry observationRegistry) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("user-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(responseTimeout);
+
+        // Built by hand, so opt in to the http.client.requests timers Boot adds to its own builder
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .observationRegistry(observationRegistry);
+    }
+}
@@ -12,6 +12,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -63,13 +66,20 @@ public class ProjectController {
 
     /**
      * Get project by ID
+     * Answers If-None-Match with 304 from the version lookup alone, before the project is loaded
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id) {
+    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable Long id, WebRequest webRequest) {
         log.info("Request to get project by ID: {}", id);
 
+        Optional<String> etag = projectService.getProjectETag(id);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+
         ProjectResponse project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+        return etag.map(value -> ResponseEntity.ok().eTag(value).body(project))
+                .orElseGet(() -> ResponseEntity.ok(project));
     }
 
     /**
@@ -1,8 +1,11 @@
 package com.taskmanager.project.controller;
 
+import com.taskmanager.project.dto.CursorPage;
+import com.taskmanager.project.dto.PageSize;
 import com.taskmanager.project.dto.TaskRequest;
 import com.taskmanager.project.dto.TaskResponse;
 import com.taskmanager.project.dto.TaskSearchCriteria;
+import com.taskmanager.project.dto.TaskView;
 import com.taskmanager.project.enums.Priority;
 import com.taskmanager.project.enums.Status;
 import com.taskmanager.project.service.TaskSearchService;
@@ -14,15 +17,21 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequiredArgsConstructor
@@ -49,27 +58,55 @@ public class TaskController {
 
     /**
      * Get all tasks for a project with pagination
+     * Conditional requests are answered with 304 before the page is loaded or serialized
      */
     @GetMapping("/api/projects/{projectId}/tasks")
-    public ResponseEntity<Page<TaskResponse>> getTasksByProject(
+    public CompletableFuture<ResponseEntity<Page<TaskResponse>>> getTasksByProject(
             @PathVariable Long projectId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         log.info("Request to get tasks for project: {}", projectId);
 
-        Page<TaskResponse> tasks = taskService.getTasksByProject(projectId, page, size);
-        return ResponseEntity.ok(tasks);
+        String etag = taskService.getProjectTasksETag(projectId);
+        if (isNotModified(webRequest, etag)) {
+            return CompletableFuture.completedFuture(notModified(etag));
+        }
+
+        return taskService.getTasksByProject(projectId, page, size)
+                .thenApply(tasks -> respond(tasks, etag));
+    }
+
+    /**
+     * Get tasks for a project as a cursor-paginated feed (newest first, no total count)
+     */
+    @GetMapping("/api/projects/{projectId}/tasks/feed")
+    public CompletableFuture<ResponseEntity<CursorPage<TaskResponse>>> getTaskFeedByProject(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        log.info("Request to get task feed for project: {}", projectId);
+
+        TaskSearchCriteria criteria = TaskSearchCriteria.builder()
+                .projectId(projectId)
+                .build();
+
+        return taskService.getTaskFeed(criteria, cursor, size).thenApply(tasks -> respond(tasks, null));
     }
 
     /**
      * Get task by ID
      */
     @GetMapping("/api/projects/{projectId}/tasks/task/{taskId}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long taskId) {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable Long taskId, WebRequest webRequest) {
         log.info("Request to get task by ID: {}", taskId);
 
-        TaskResponse task = taskService.getTaskById(taskId);
-        return ResponseEntity.ok(task);
+        Optional<String> etag = taskService.getTaskETag(taskId);
+        if (etag.isPresent() && isNotModified(webRequest, etag.get())) {
+            return notModified(etag.get());
+        }
+
+        return respond(taskService.getTaskById(taskId), etag.orElse(null));
     }
 
     /**
@@ -117,24 +154,29 @@ public class TaskController {
      * Get tasks assigned to current user
      */
     @GetMapping("/api/tasks/my")
-    public ResponseEntity<List<TaskResponse>> getMyTasks(
-            @RequestParam(required = false) String status) {
+    public CompletableFuture<ResponseEntity<List<TaskResponse>>> getMyTasks(
+            @RequestParam(required = false) String status,
+            WebRequest webRequest) {
         Long userId = getCurrentUserId();
         log.info("Request to get my tasks for user: {} with status: {}", userId, status);
 
-        List<TaskResponse> tasks = taskService.getMyTasks(userId, status);
-        return ResponseEntity.ok(tasks);
+        String etag = taskService.getMyTasksETag(userId);
+        if (isNotModified(webRequest, etag)) {
+            return CompletableFuture.completedFuture(notModified(etag));
+        }
+
+        return taskService.getMyTasks(userId, status)
+                .thenApply(tasks -> respond(tasks, etag));
     }
 
     /**
      * Get all overdue tasks
      */
     @GetMapping("/api/tasks/overdue")
-    public ResponseEntity<List<TaskResponse>> getOverdueTasks() {
+    public CompletableFuture<ResponseEntity<List<TaskResponse>>> getOverdueTasks() {
         log.info("Request to get overdue tasks");
 
-        List<TaskResponse> tasks = taskService.getOverdueTasks();
-        return ResponseEntity.ok(tasks);
+        return taskService.getOverdueTasks().thenApply(tasks -> respond(tasks, null));
     }
 
     /**
@@ -164,7 +206,7 @@ public class TaskController {
                 .dueDateTo(dueDateTo)
                 .build();
 
-        Pageable pageable = PageRequest.of(page, size);
+        Pageable pageable = PageRequest.of(page, PageSize.check(size));
 
         // ✅ FIXED: Service now returns Page<TaskResponse>, no need to map here
         Page<TaskResponse> results = taskSearchService.searchTasks(criteria, pageable);
@@ -172,6 +214,66 @@ public class TaskController {
         return ResponseEntity.ok(results);
     }
 
+    /**
+     * Search tasks as a cursor-paginated feed; deep slices cost the same as the first one
+     */
+    @GetMapping("/api/tasks/search/feed")
+    public CompletableFuture<ResponseEntity<CursorPage<TaskResponse>>> searchTaskFeed(
+            @RequestParam(value = "projectId", required = false) Long projectId,
+            @RequestParam(value = "assigneeId", required = false) Long assigneeId,
+            @RequestParam(value = "status", required = false) String status,
+            @RequestParam(value = "priority", required = false) String priority,
+            @RequestParam(value = "dueDateFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateFrom,
+            @RequestParam(value = "dueDateTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueDateTo,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+
+        log.info("Request to search task feed with criteria - projectId: {}, status: {}, priority: {}",
+                projectId, status, priority);
+
+        TaskSearchCriteria criteria = TaskSearchCriteria.builder()
+                .projectId(projectId)
+                .assigneeId(assigneeId)
+                .status(status != null ? Status.valueOf(status) : null)
+                .priority(priority != null ? Priority.valueOf(priority) : null)
+                .dueDateFrom(dueDateFrom)
+                .dueDateTo(dueDateTo)
+                .build();
+
+        return taskService.getTaskFeed(criteria, cursor, size).thenApply(tasks -> respond(tasks, null));
+    }
+
+    /**
+     * A view with an unresolved assignee ("Unknown") is sent without ETag and marked no-store,
+     * so neither the client nor the gateway cache keeps the placeholder
+     */
+    private static <T> ResponseEntity<T> respond(TaskView<T> view, String etag) {
+        if (!view.complete()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(view.body());
+        }
+        if (etag == null) {
+            return ResponseEntity.ok(view.body());
+        }
+        return ResponseEntity.ok().eTag(etag).body(view.body());
+    }
+
+    // Unlike WebRequest.checkNotModified, leaves no ETag on the response when the view is then built
+    private static boolean isNotModified(WebRequest webRequest, String etag) {
+        String ifNoneMatch = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String quoted = etag.startsWith("\"") ? etag : "\"" + etag + "\"";
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(quoted));
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+
     /**
      * Extract current user ID from JWT token
      */
@@ -0,0 +1,22 @@
+package com.taskmanager.project.dto;
+
+import com.taskmanager.project.exception.InvalidPageSizeException;
+
+/**
+ * Bounds on the page and feed slice sizes clients may request. Out-of-range sizes are
+ * answered with 400 instead of reaching PageRequest or setMaxResults.
+ */
+public final class PageSize {
+
+    public static final int MAX = 100;
+
+    private PageSize() {
+    }
+
+    public static int check(int size) {
+        if (size < 1 || size > MAX) {
+            throw new InvalidPageSizeException(size, MAX);
+        }
+        return size;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor
@@ -19,4 +20,5 @@ public class ProjectResponse {
     private Long ownerId;
     private LocalDateTime createdAt;
     private Integer taskCount;
+    private Map<String, Long> taskCountsByStatus;
 }
\ No newline at end of file
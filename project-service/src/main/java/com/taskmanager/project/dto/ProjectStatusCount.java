@@ -0,0 +1,19 @@
+package com.taskmanager.project.dto;
+
+import com.taskmanager.project.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the grouped task count query: number of tasks of a project in a given status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectStatusCount {
+
+    private Long projectId;
+    private Status status;
+    private Long count;
+}
@@ -0,0 +1,32 @@
+package com.taskmanager.project.dto;
+
+import com.taskmanager.project.enums.Priority;
+import com.taskmanager.project.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a task row joined with its project name.
+ * Selected directly by JPQL constructor expressions, so no Task entity is managed.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSummary {
+
+    private Long id;
+    private String title;
+    private String description;
+    private Long assigneeId;
+    private Status status;
+    private Priority priority;
+    private LocalDate dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long projectId;
+    private String projectName;
+}
@@ -0,0 +1,9 @@
+package com.taskmanager.project.dto;
+
+/**
+ * A task view and whether every assignee in it was resolved. A view showing the "Unknown"
+ * placeholder must not be cached or revalidated, or it keeps the placeholder after
+ * user-service recovers.
+ */
+public record TaskView<T>(T body, boolean complete) {
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Row count and latest modification time of a set of tasks. Any insert, update or
+ * delete in the set changes at least one of them, so together they version the set.
+ * Task views also show the project name, so the latest modification of the tasks'
+ * projects is part of the stamp as well.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionStamp {
+
+    private Long count;
+    private LocalDateTime lastModified;
+    private LocalDateTime projectsLastModified;
+
+    /**
+     * ETag value for a view built from this set, e.g. {@code project-tasks-7-12-1700000000000-1690000000000}
+     */
+    public String toETag(String prefix) {
+        return prefix + "-" + count + "-" + epochMillis(lastModified) + "-" + epochMillis(projectsLastModified);
+    }
+
+    public static long epochMillis(LocalDateTime time) {
+        return time != null ? time.toInstant(ZoneOffset.UTC).toEpochMilli() : 0;
+    }
+}
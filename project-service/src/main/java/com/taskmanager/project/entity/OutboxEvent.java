@@ -0,0 +1,53 @@
+package com.taskmanager.project.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kafka record waiting to be published. Written in the same transaction as the
+ * change it describes and removed by OutboxRelay once the broker acknowledged it.
+ */
+@Entity
+@Table(name = "task_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    // Kafka record key; all events of one task share it and therefore a partition
+    @Column(name = "message_key", nullable = false)
+    private String messageKey;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    // traceparent of the request that queued the event, null when it was not traced
+    @Column(name = "trace_parent", length = 55)
+    private String traceParent;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Failed non-retriable sends so far; OutboxRelay dead-letters the row at outbox.relay.max-attempts
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -32,11 +32,19 @@ public class Project {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
+    private LocalDateTime updatedAt;
+    
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> tasks = new ArrayList<>();
     
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+    
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
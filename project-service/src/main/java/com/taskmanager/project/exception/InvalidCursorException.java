@@ -0,0 +1,7 @@
+package com.taskmanager.project.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid feed cursor: " + cursor);
+    }
+}
@@ -0,0 +1,7 @@
+package com.taskmanager.project.exception;
+
+public class InvalidPageSizeException extends RuntimeException {
+    public InvalidPageSizeException(int size, int max) {
+        super("Page size must be between 1 and " + max + ": " + size);
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskmanager.project.exception;
+
+/**
+ * user-service answered 404; a real answer, so it neither degrades to a placeholder
+ * nor counts against the user-service circuit breaker.
+ */
+public class UserNotFoundException extends RuntimeException {
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskmanager.project.exception;
+
+/**
+ * user-service is unreachable, saturated or answered 502/503/504; counted by the user-service
+ * circuit breaker, unlike other answers (404, 500, ...) which come from a running service.
+ */
+public class UserServiceUnavailableException extends RuntimeException {
+    public UserServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public UserServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskmanager.project.kafka;
+
+import com.taskmanager.project.kafka.dto.UserEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+public class KafkaConsumerConfig {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    /**
+     * Unique per running instance and stable across its restarts, so a restart rejoins its own
+     * consumer group instead of leaving one behind on the broker; defaults to host and port
+     */
+    @Value("${spring.application.instance_id:${spring.cloud.client.hostname}-${server.port:8080}}")
+    private String instanceId;
+
+    /**
+     * Every instance keeps its own user cache, so every instance needs every
+     * user-event: use a consumer group per instance (by instance id) and start from the latest offset.
+     */
+    @Bean
+    public ConsumerFactory<String, UserEvent> consumerFactory() {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "project-service-user-cache-" + instanceId);
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        config.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, UserEvent.class.getName());
+        config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        DefaultKafkaConsumerFactory<String, UserEvent> factory = new DefaultKafkaConsumerFactory<>(config);
+        // Client metrics, including records-lag-max per partition, as kafka.consumer.* meters
+        factory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+        return factory;
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UserEvent> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, UserEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory());
+        // Cache evictions run as consumer spans in the trace of the user-service change
+        factory.getContainerProperties().setObservationEnabled(true);
+        return factory;
+    }
+}
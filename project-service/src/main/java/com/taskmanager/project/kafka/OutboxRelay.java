@@ -0,0 +1,214 @@
+package com.taskmanager.project.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.project.entity.OutboxEvent;
+import com.taskmanager.project.kafka.dto.TaskEvent;
+import com.taskmanager.project.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Drains task_outbox into Kafka. Rows are sent in id order, so events of one task keep
+ * their commit order on its partition, and each row is deleted once the broker acknowledged it.
+ * A row that fails for a retriable reason (broker unavailable, ack timeout) stays as it is and is
+ * retried on the next run (at-least-once). A row that cannot be sent (unreadable payload,
+ * serialization error, record too large) counts an attempt and holds back only the later rows of
+ * its own task; after max-attempts it is moved to task_outbox_dead_letter so it never blocks the outbox.
+ * The stored traceparent travels as a record header, so consumers continue the request's trace.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    private static final long RELAY_LOCK_KEY = 0x7461736b5f6f7574L; // "task_out"
+    private static final int LAST_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, TaskEvent> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    // The row locks are held while waiting, so keep this short; unacknowledged rows are simply retried
+    @Value("${outbox.relay.send-timeout-ms:5000}")
+    private long sendTimeoutMs;
+
+    @Value("${outbox.relay.max-attempts:5}")
+    private int maxAttempts;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+    @Transactional
+    public void relay() {
+        if (!outboxEventRepository.tryLockRelay(RELAY_LOCK_KEY)) {
+            return;
+        }
+
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // Whole batch from first send to last acknowledgement; per-record latency is spring.kafka.template
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<OutboxEvent> sent = new ArrayList<>(batch.size());
+        List<CompletableFuture<SendResult<String, TaskEvent>>> sends = new ArrayList<>(batch.size());
+        List<OutboxEvent> failed = new ArrayList<>();
+        Set<String> heldBackKeys = new HashSet<>();
+        for (OutboxEvent outboxEvent : batch) {
+            if (heldBackKeys.contains(outboxEvent.getMessageKey())) {
+                continue;
+            }
+            try {
+                sends.add(kafkaTemplate.send(toRecord(outboxEvent)));
+                sent.add(outboxEvent);
+            } catch (Exception e) {
+                if (isRetriable(e)) {
+                    // The broker is unreachable; every later row would wait and fail the same way
+                    log.warn("Outbox relay paused, will retry: {}", e.getMessage());
+                    break;
+                }
+                recordFailure(outboxEvent, e);
+                failed.add(outboxEvent);
+                heldBackKeys.add(outboxEvent.getMessageKey());
+            }
+        }
+
+        awaitAcknowledgements(sends);
+
+        List<OutboxEvent> acknowledged = new ArrayList<>(sent.size());
+        int unacknowledged = 0;
+        for (int i = 0; i < sent.size(); i++) {
+            OutboxEvent outboxEvent = sent.get(i);
+            Throwable error = sendError(sends.get(i));
+            if (error == null) {
+                acknowledged.add(outboxEvent);
+                continue;
+            }
+            unacknowledged++;
+            if (isRetriable(error)) {
+                outboxEvent.setLastError(describe(error));
+            } else {
+                recordFailure(outboxEvent, error);
+                failed.add(outboxEvent);
+            }
+        }
+        boolean complete = failed.isEmpty() && unacknowledged == 0 && sends.size() == batch.size();
+        sample.stop(meterRegistry.timer("taskmanager.outbox.send", "outcome", complete ? "acknowledged" : "failed"));
+
+        deadLetterExhausted(failed);
+        if (!acknowledged.isEmpty()) {
+            outboxEventRepository.deleteAllInBatch(acknowledged);
+            meterRegistry.counter("taskmanager.outbox.relayed").increment(acknowledged.size());
+        }
+        if (complete) {
+            log.debug("Relayed {} outbox events", acknowledged.size());
+        } else {
+            log.warn("Relayed {} of {} outbox events, {} failed, the rest will be retried",
+                    acknowledged.size(), batch.size(), failed.size());
+        }
+    }
+
+    private ProducerRecord<String, TaskEvent> toRecord(OutboxEvent outboxEvent) throws IOException {
+        TaskEvent event = objectMapper.readValue(outboxEvent.getPayload(), TaskEvent.class);
+        ProducerRecord<String, TaskEvent> record =
+                new ProducerRecord<>(outboxEvent.getTopic(), outboxEvent.getMessageKey(), event);
+        if (outboxEvent.getTraceParent() != null) {
+            record.headers().add(TaskEventProducer.TRACE_PARENT_HEADER,
+                    outboxEvent.getTraceParent().getBytes(StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+
+    /**
+     * Waits at most send-timeout-ms for all sends; each one's outcome is read separately afterwards
+     */
+    private void awaitAcknowledgements(List<CompletableFuture<SendResult<String, TaskEvent>>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(new CompletableFuture[0]))
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // Failed and pending sends are handled per row
+        }
+    }
+
+    /**
+     * Cause of a failed send, a timeout for one still pending, or null once it was acknowledged
+     */
+    private static Throwable sendError(CompletableFuture<?> send) {
+        if (!send.isDone()) {
+            return new org.apache.kafka.common.errors.TimeoutException("No acknowledgement within send timeout");
+        }
+        try {
+            send.join();
+            return null;
+        } catch (CompletionException | CancellationException e) {
+            return e.getCause() != null ? e.getCause() : e;
+        }
+    }
+
+    private void recordFailure(OutboxEvent outboxEvent, Throwable error) {
+        outboxEvent.setAttempts(outboxEvent.getAttempts() + 1);
+        outboxEvent.setLastError(describe(error));
+        log.warn("Could not relay outbox event {} (attempt {} of {}): {}",
+                outboxEvent.getId(), outboxEvent.getAttempts(), maxAttempts, outboxEvent.getLastError());
+    }
+
+    private void deadLetterExhausted(List<OutboxEvent> failed) {
+        List<Long> exhausted = failed.stream()
+                .filter(outboxEvent -> outboxEvent.getAttempts() >= maxAttempts)
+                .map(OutboxEvent::getId)
+                .toList();
+        if (exhausted.isEmpty()) {
+            return;
+        }
+        // Write attempts and last_error first, so the copies carry them
+        outboxEventRepository.flush();
+        outboxEventRepository.copyToDeadLetter(exhausted);
+        outboxEventRepository.deleteAllByIdInBatch(exhausted);
+        meterRegistry.counter("taskmanager.outbox.dead-lettered").increment(exhausted.size());
+        log.error("Moved undeliverable outbox events {} to task_outbox_dead_letter", exhausted);
+    }
+
+    private static boolean isRetriable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String describe(Throwable error) {
+        String description = NestedExceptionUtils.getMostSpecificCause(error).toString();
+        return description.length() <= LAST_ERROR_LENGTH ? description : description.substring(0, LAST_ERROR_LENGTH);
+    }
+}
@@ -1,38 +1,73 @@
 package com.taskmanager.project.kafka;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.project.entity.OutboxEvent;
 import com.taskmanager.project.kafka.dto.TaskEvent;
+import com.taskmanager.project.repository.OutboxEventRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Records task events in the outbox as part of the caller's transaction.
+ * Publishing to Kafka happens later in OutboxRelay, so a rollback never leaks
+ * an event and a slow broker never slows down the request. The request's trace context
+ * is stored with the event, so the consumers' spans join the trace that caused them.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed("taskmanager.service")
 public class TaskEventProducer {
 
-    private static final String TOPIC = "task-events";
-    private final KafkaTemplate<String, TaskEvent> kafkaTemplate;
+    static final String TOPIC = "task-events";
+    static final String TRACE_PARENT_HEADER = "traceparent";
 
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendTaskEvent(TaskEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setTopic(TOPIC);
+        outboxEvent.setMessageKey(event.getTaskId().toString());
+        outboxEvent.setPayload(toJson(event));
+        outboxEvent.setTraceParent(currentTraceParent());
+
+        outboxEventRepository.save(outboxEvent);
+        log.debug("Queued task event {} for task {}", event.getEventType(), event.getTaskId());
+    }
+
+    /**
+     * W3C traceparent of the current span, or null outside a trace
+     */
+    private String currentTraceParent() {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        Map<String, String> carrier = new HashMap<>();
+        propagator.inject(span.context(), carrier, Map::put);
+        return carrier.get(TRACE_PARENT_HEADER);
+    }
+
+    private String toJson(TaskEvent event) {
         try {
-            CompletableFuture<SendResult<String, TaskEvent>> future = kafkaTemplate.send(TOPIC,
-                    event.getTaskId().toString(), event);
-
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("Task event sent successfully: {} - Offset: {}",
-                            event.getEventType(),
-                            result.getRecordMetadata().offset());
-                } else {
-                    log.error("Failed to send task event: {}", event.getEventType(), ex);
-                }
-            });
-        } catch (Exception e) {
-            log.error("Error sending task event", e);
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize task event " + event.getEventType(), e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,26 @@
+package com.taskmanager.project.kafka;
+
+import com.taskmanager.project.kafka.dto.UserEvent;
+import com.taskmanager.project.service.UserCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventConsumer {
+
+    private final UserCacheService userCacheService;
+
+    @KafkaListener(topics = "user-events")
+    public void consumeUserEvent(UserEvent event) {
+        if (event.getUserId() == null) {
+            return;
+        }
+
+        log.debug("Received user event: {} for user: {}", event.getEventType(), event.getUserId());
+        userCacheService.evict(event.getUserId());
+    }
+}
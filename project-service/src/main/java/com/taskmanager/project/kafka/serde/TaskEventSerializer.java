@@ -0,0 +1,46 @@
+package com.taskmanager.project.kafka.serde;
+
+import com.taskmanager.project.kafka.dto.TaskEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes task-events values as Avro ({@link TaskEventAvro}) or, while consumers that only
+ * read JSON are still deployed, as the JSON written before (task-events.format).
+ */
+public class TaskEventSerializer implements Serializer<TaskEvent> {
+
+    public enum Format {
+        AVRO, JSON
+    }
+
+    private final Format format;
+    private final JsonSerializer<TaskEvent> jsonSerializer = new JsonSerializer<TaskEvent>().noTypeInfo();
+
+    public TaskEventSerializer(Format format) {
+        this.format = format;
+    }
+
+    @Override
+    public byte[] serialize(String topic, TaskEvent event) {
+        if (event == null) {
+            return null;
+        }
+        if (format == Format.JSON) {
+            return jsonSerializer.serialize(topic, event);
+        }
+        try {
+            return TaskEventAvro.encode(event);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Could not encode task event " + event.getEventType(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
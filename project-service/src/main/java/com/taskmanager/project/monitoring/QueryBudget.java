@@ -0,0 +1,60 @@
+package com.taskmanager.project.monitoring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Statement budget per HTTP request (query-budget.* in application.yml). Requests over it are
+ * logged; with fail-on-exceed, as in the test profile, the offending statement throws instead.
+ */
+@Component
+public class QueryBudget {
+
+    @Value("${query-budget.enabled:true}")
+    private boolean enabled;
+
+    @Value("${query-budget.max-statements:20}")
+    private int maxStatements;
+
+    /**
+     * How often one statement may repeat within a request before it is reported as a likely N+1
+     */
+    @Value("${query-budget.max-repeats:5}")
+    private int maxRepeats;
+
+    @Value("${query-budget.fail-on-exceed:false}")
+    private boolean failOnExceed;
+
+    @Value("${query-budget.debug-headers:false}")
+    private boolean debugHeaders;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxStatements() {
+        return maxStatements;
+    }
+
+    public int getMaxRepeats() {
+        return maxRepeats;
+    }
+
+    public boolean isFailOnExceed() {
+        return failOnExceed;
+    }
+
+    public boolean isDebugHeaders() {
+        return debugHeaders;
+    }
+
+    public boolean isExceededBy(RequestQueryStats stats) {
+        if (stats.getStatements() > maxStatements) {
+            return true;
+        }
+        Map.Entry<String, Integer> mostRepeated = stats.mostRepeated();
+        return mostRepeated != null && mostRepeated.getValue() > maxRepeats;
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskmanager.project.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a RequestQueryStats for every request and, once the request is complete (after the
+ * async dispatch for listing endpoints), records it as metrics and warns when it broke the budget.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudget queryBudget;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !queryBudget.isEnabled() || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = (RequestQueryStats) request.getAttribute(RequestQueryStats.ATTRIBUTE);
+        if (stats == null) {
+            stats = new RequestQueryStats();
+            request.setAttribute(RequestQueryStats.ATTRIBUTE, stats);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!request.isAsyncStarted()) {
+                complete(request, stats);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("taskmanager.request.statements")
+                .description("JDBC statements per HTTP request")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("taskmanager.request.db.time")
+                .description("Time per HTTP request spent executing JDBC statements")
+                .tags("method", request.getMethod(), "uri", uri)
+                .register(meterRegistry)
+                .record(stats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (queryBudget.isExceededBy(stats)) {
+            Map.Entry<String, Integer> mostRepeated = stats.mostRepeated();
+            log.warn("{} {} ran {} SQL statements ({} ms), budget is {} statements and {} repeats; most repeated ({}x): {}",
+                    request.getMethod(), uri, stats.getStatements(), String.format(Locale.ROOT, "%.1f", stats.getElapsedMillis()),
+                    queryBudget.getMaxStatements(), queryBudget.getMaxRepeats(),
+                    mostRepeated.getValue(), mostRepeated.getKey());
+        }
+    }
+}
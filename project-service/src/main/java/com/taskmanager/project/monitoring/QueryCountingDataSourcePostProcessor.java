@@ -0,0 +1,36 @@
+package com.taskmanager.project.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Routes the DataSource through datasource-proxy so every statement is counted against the
+ * request that issued it. With query-budget.enabled=false the pool is left unwrapped.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueryCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<QueryBudget> queryBudget;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        QueryBudget budget = queryBudget.getObject();
+        if (!budget.isEnabled()) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new QueryCountingListener(budget))
+                .build();
+    }
+}
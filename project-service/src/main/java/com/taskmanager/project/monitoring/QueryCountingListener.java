@@ -0,0 +1,61 @@
+package com.taskmanager.project.monitoring;
+
+import com.taskmanager.project.exception.QueryBudgetExceededException;
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Counts and times every JDBC round trip against the RequestQueryStats of the current request.
+ * Statements outside a request are ignored.
+ */
+@RequiredArgsConstructor
+class QueryCountingListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = QueryCountingListener.class.getName() + ".start";
+
+    private final QueryBudget queryBudget;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats == null) {
+            return;
+        }
+        if (queryBudget.isFailOnExceed()) {
+            // Thrown before the statement runs, so the stack trace points at the code issuing it
+            checkBudget(stats, sql(queryInfoList));
+        }
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (stats != null && start != null) {
+            stats.record(sql(queryInfoList), System.nanoTime() - start);
+        }
+    }
+
+    private void checkBudget(RequestQueryStats stats, String sql) {
+        if (stats.getStatements() >= queryBudget.getMaxStatements()) {
+            throw new QueryBudgetExceededException(
+                    "Request exceeded its budget of " + queryBudget.getMaxStatements() + " SQL statements");
+        }
+        if (stats.executionsOf(sql) >= queryBudget.getMaxRepeats()) {
+            throw new QueryBudgetExceededException("Statement repeated more than " + queryBudget.getMaxRepeats()
+                    + " times in one request (likely N+1): " + sql);
+        }
+    }
+
+    /**
+     * A JDBC batch is one round trip; it is keyed by its first statement
+     */
+    private static String sql(List<QueryInfo> queryInfoList) {
+        return queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+    }
+}
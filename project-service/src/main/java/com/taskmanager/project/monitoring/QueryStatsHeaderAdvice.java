@@ -0,0 +1,42 @@
+package com.taskmanager.project.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * With query-budget.debug-headers, adds X-Query-Count and X-Query-Time-Ms to every response
+ * body. Written just before the body, i.e. after all service work of the request.
+ */
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class QueryStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final QueryBudget queryBudget;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return queryBudget.isEnabled() && queryBudget.isDebugHeaders();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest
+                && servletRequest.getServletRequest().getAttribute(RequestQueryStats.ATTRIBUTE)
+                        instanceof RequestQueryStats stats) {
+            response.getHeaders().set("X-Query-Count", String.valueOf(stats.getStatements()));
+            response.getHeaders().set("X-Query-Time-Ms", String.format(Locale.ROOT, "%.2f", stats.getElapsedMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,64 @@
+package com.taskmanager.project.monitoring;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC statements executed on behalf of one HTTP request. Kept as a request attribute rather
+ * than a thread-local, so the count survives the async dispatch that writes listing responses.
+ */
+public class RequestQueryStats {
+
+    static final String ATTRIBUTE = RequestQueryStats.class.getName();
+
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong elapsedNanos = new AtomicLong();
+    private final Map<String, Integer> executionsBySql = new ConcurrentHashMap<>();
+
+    /**
+     * Stats of the request bound to the current thread, or null outside a request
+     * (Kafka listeners, the outbox relay, startup)
+     */
+    static RequestQueryStats current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                ? (RequestQueryStats) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                : null;
+    }
+
+    void record(String sql, long nanos) {
+        statements.incrementAndGet();
+        elapsedNanos.addAndGet(nanos);
+        executionsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    public int getStatements() {
+        return statements.get();
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos.get();
+    }
+
+    public double getElapsedMillis() {
+        return elapsedNanos.get() / 1_000_000.0;
+    }
+
+    int executionsOf(String sql) {
+        return executionsBySql.getOrDefault(sql, 0);
+    }
+
+    /**
+     * The statement run most often, the usual signature of an N+1 (one lazy load per row)
+     */
+    Map.Entry<String, Integer> mostRepeated() {
+        return executionsBySql.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+}
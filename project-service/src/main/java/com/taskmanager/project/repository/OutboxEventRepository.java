@@ -0,0 +1,31 @@
+package com.taskmanager.project.repository;
+
+import com.taskmanager.project.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Transaction-scoped advisory lock so only one instance drains the outbox at a time
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryLockRelay(@Param("lockKey") long lockKey);
+
+    @Query(value = "SELECT * FROM task_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    // Copies rows that used up their attempts; the caller deletes them from task_outbox
+    @Modifying
+    @Query(value = "INSERT INTO task_outbox_dead_letter "
+            + "(id, topic, message_key, payload, trace_parent, created_at, attempts, last_error, failed_at) "
+            + "SELECT id, topic, message_key, payload, trace_parent, created_at, attempts, last_error, CURRENT_TIMESTAMP "
+            + "FROM task_outbox WHERE id IN (:ids)", nativeQuery = true)
+    int copyToDeadLetter(@Param("ids") Collection<Long> ids);
+}
@@ -1,5 +1,8 @@
 package com.taskmanager.project.repository;
 
+import com.taskmanager.project.dto.ProjectStatusCount;
+import com.taskmanager.project.dto.TaskSummary;
+import com.taskmanager.project.dto.VersionStamp;
 import com.taskmanager.project.entity.Task;
 import com.taskmanager.project.enums.Status;
 import org.springframework.data.domain.Page;
@@ -9,31 +12,58 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
-        @Query("SELECT t FROM Task t WHERE t.project.id = :projectId")
-        Page<Task> findByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+        // Selects exactly the TaskResponse columns, joining projects in the same statement
+        String TASK_SUMMARY_SELECT = "SELECT new com.taskmanager.project.dto.TaskSummary("
+                        + "t.id, t.title, t.description, t.assigneeId, t.status, t.priority, "
+                        + "t.dueDate, t.createdAt, t.updatedAt, p.id, p.name) "
+                        + "FROM Task t JOIN t.project p ";
 
-        @Query("SELECT t FROM Task t WHERE t.assigneeId = :assigneeId AND t.status = :status")
-        List<Task> findByAssigneeIdAndStatus(@Param("assigneeId") Long assigneeId,
-                        @Param("status") String status);
+        @Query(value = TASK_SUMMARY_SELECT + "WHERE p.id = :projectId",
+                        countQuery = "SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId")
+        Page<TaskSummary> findSummariesByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+        @Query(TASK_SUMMARY_SELECT + "WHERE t.assigneeId = :assigneeId AND t.status = :status")
+        List<TaskSummary> findSummariesByAssigneeIdAndStatus(@Param("assigneeId") Long assigneeId,
+                        @Param("status") Status status);
+
+        @Query(TASK_SUMMARY_SELECT + "WHERE t.assigneeId = :assigneeId")
+        List<TaskSummary> findSummariesByAssigneeId(@Param("assigneeId") Long assigneeId);
+
+        @Query(TASK_SUMMARY_SELECT
+                        + "WHERE t.dueDate < CURRENT_DATE AND t.status != com.taskmanager.project.enums.Status.DONE")
+        List<TaskSummary> findOverdueSummaries();
 
         @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
         List<Task> findByProjectIdAndStatus(@Param("projectId") Long projectId,
                         @Param("status") Status status);
 
-        @Query("SELECT t FROM Task t WHERE t.dueDate < CURRENT_DATE AND t.status != com.taskmanager.project.enums.Status.DONE")
-        List<Task> findOverdueTasks();
-
         @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
         Long countByProjectIdAndStatus(@Param("projectId") Long projectId,
                         @Param("status") Status status);
 
-        @Query("SELECT t FROM Task t WHERE t.assigneeId = :assigneeId")
-        List<Task> findByAssigneeId(@Param("assigneeId") Long assigneeId);
-
         Long countByProjectIdAndStatus(Long projectId, String status);
-}
\ No newline at end of file
+
+        // Task counts per (project, status) for a whole page of projects in one statement
+        @Query("SELECT new com.taskmanager.project.dto.ProjectStatusCount(t.project.id, t.status, COUNT(t)) "
+                        + "FROM Task t WHERE t.project.id IN :projectIds GROUP BY t.project.id, t.status")
+        List<ProjectStatusCount> countByProjectIdsGroupedByStatus(@Param("projectIds") Collection<Long> projectIds);
+
+        // Version lookups behind the ETags: answered from indexes, no row or body is built
+        @Query("SELECT new com.taskmanager.project.dto.VersionStamp(COUNT(t), MAX(t.updatedAt), MAX(p.updatedAt)) "
+                        + "FROM Task t LEFT JOIN t.project p WHERE t.id = :id")
+        VersionStamp findVersionStampById(@Param("id") Long id);
+
+        @Query("SELECT new com.taskmanager.project.dto.VersionStamp(COUNT(t), MAX(t.updatedAt), MAX(p.updatedAt)) "
+                        + "FROM Task t LEFT JOIN t.project p WHERE t.project.id = :projectId")
+        VersionStamp findVersionStampByProjectId(@Param("projectId") Long projectId);
+
+        @Query("SELECT new com.taskmanager.project.dto.VersionStamp(COUNT(t), MAX(t.updatedAt), MAX(p.updatedAt)) "
+                        + "FROM Task t LEFT JOIN t.project p WHERE t.assigneeId = :assigneeId")
+        VersionStamp findVersionStampByAssigneeId(@Param("assigneeId") Long assigneeId);
+}
@@ -1,5 +1,6 @@
 package com.taskmanager.project.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,11 +23,29 @@ import java.util.Collections;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        // Gateway-trusted mode: accept the identity the gateway already verified
+        if (gatewayIdentityVerifier.isEnabled() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            GatewayIdentityVerifier.GatewayIdentity identity = gatewayIdentityVerifier.verify(request);
+            if (identity != null) {
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        String.valueOf(identity.userId()),
+                        null,
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + identity.role())));
+
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+
         final String authHeader = request.getHeader("Authorization");
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -36,12 +55,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         try {
             final String jwt = authHeader.substring(7);
-            final String email = jwtUtil.extractEmail(jwt);
-            final String role = jwtUtil.extractRole(jwt);
-            final Long userId = jwtUtil.extractUserId(jwt); // ✅ EXTRACT userId
+            final Claims claims = jwtUtil.parseClaims(jwt); // single parse + signature check
+            final String email = claims.getSubject();
+            final String role = claims.get("role", String.class);
+            final Long userId = claims.get("userId", Long.class); // ✅ EXTRACT userId
 
             if (email != null && userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtUtil.validateToken(jwt, email)) {
+                if (jwtUtil.isValid(claims)) {
                     // ✅ STORE userId AS PRINCIPAL (not email)
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             String.valueOf(userId), // ✅ Store userId as string
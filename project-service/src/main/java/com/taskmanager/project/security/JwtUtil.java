@@ -2,13 +2,13 @@ package com.taskmanager.project.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -21,8 +21,25 @@ public class JwtUtil {
     @Value("${jwt.secret}")
     private String secret;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
     private static final long JWT_TOKEN_VALIDITY = 24 * 60 * 60 * 1000; // 24 hours
 
+    private SecretKey signingKey;
+
+    // Verification and the claims cache are shared with the other services' JwtUtil
+    private JwtClaimsCache claimsCache;
+
+    /**
+     * Build the signing key, parser and claims cache once at startup
+     */
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        claimsCache = new JwtClaimsCache(signingKey, claimsCacheMaxSize);
+    }
+
     /**
      * Generate JWT token with email, role, and userId
      */
@@ -41,11 +58,11 @@ public class JwtUtil {
         Date expiryDate = new Date(now.getTime() + JWT_TOKEN_VALIDITY);
 
         return Jwts.builder()
-                .setClaims(claims)
-                .setSubject(subject)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .claims(claims)
+                .subject(subject)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .signWith(getSigningKey())
                 .compact();
     }
 
@@ -85,15 +102,19 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Parse and verify the token once, returning all claims.
+     * Repeated calls for the same token are served from the claims cache.
+     */
+    public Claims parseClaims(String token) {
+        return claimsCache.parse(token);
+    }
+
     /**
      * Extract all claims from token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parseClaims(token);
     }
 
     /**
@@ -111,11 +132,17 @@ public class JwtUtil {
         return (tokenEmail.equals(email) && !isTokenExpired(token));
     }
 
+    /**
+     * Validate already parsed claims
+     */
+    public boolean isValid(Claims claims) {
+        return claimsCache.isValid(claims);
+    }
+
     /**
      * Get signing key from secret
      */
-    private Key getSigningKey() {
-        byte[] keyBytes = secret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    private SecretKey getSigningKey() {
+        return signingKey;
     }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.taskmanager.project.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Captures the caller's bearer token on the request thread so it can be handed
+ * explicitly to clients that run elsewhere (e.g. UserServiceAsyncClient).
+ */
+public final class RequestTokens {
+
+    private RequestTokens() {
+    }
+
+    /**
+     * The incoming "Authorization: Bearer ..." header value, or null outside a request
+     */
+    public static String currentAuthorization() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        return authHeader != null && authHeader.startsWith("Bearer ") ? authHeader : null;
+    }
+}
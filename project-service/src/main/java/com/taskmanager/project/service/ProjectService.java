@@ -1,11 +1,17 @@
 package com.taskmanager.project.service;
 
+import com.taskmanager.project.dto.PageSize;
 import com.taskmanager.project.dto.ProjectRequest;
 import com.taskmanager.project.dto.ProjectResponse;
+import com.taskmanager.project.dto.ProjectStatusCount;
+import com.taskmanager.project.dto.VersionStamp;
 import com.taskmanager.project.entity.Project;
+import com.taskmanager.project.enums.Status;
 import com.taskmanager.project.exception.ProjectNotFoundException;
 import com.taskmanager.project.exception.UnauthorizedException;
 import com.taskmanager.project.repository.ProjectRepository;
+import com.taskmanager.project.repository.TaskRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -14,11 +20,22 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
+@Timed("taskmanager.service")
 public class ProjectService {
     
     private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
     
     @Transactional
     public ProjectResponse createProject(ProjectRequest request, Long userId) {
@@ -28,26 +45,37 @@ public class ProjectService {
         project.setOwnerId(userId);
         
         Project savedProject = projectRepository.save(project);
-        return mapToResponse(savedProject);
+        return mapToResponse(savedProject, Collections.emptyMap());
     }
     
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getAllProjects(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return projectRepository.findAll(pageable).map(this::mapToResponse);
+        Pageable pageable = PageRequest.of(page, PageSize.check(size), Sort.by("createdAt").descending());
+        return mapPage(projectRepository.findAll(pageable));
     }
     
     @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long id) {
         Project project = projectRepository.findById(id)
             .orElseThrow(() -> new ProjectNotFoundException(id));
-        return mapToResponse(project);
+        return mapToResponse(project, loadTaskCounts(List.of(id)).getOrDefault(id, Collections.emptyMap()));
+    }
+    
+    /**
+     * ETag of a project view: the project's own modification time plus the version of its
+     * tasks, since the response carries per-status task counts. Empty if the project does not exist.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> getProjectETag(Long id) {
+        return projectRepository.findUpdatedAtById(id)
+            .map(updatedAt -> taskRepository.findVersionStampByProjectId(id)
+                .toETag("project-" + id + "-" + VersionStamp.epochMillis(updatedAt)));
     }
     
     @Transactional(readOnly = true)
     public Page<ProjectResponse> getMyProjects(Long userId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return projectRepository.findByOwnerId(userId, pageable).map(this::mapToResponse);
+        Pageable pageable = PageRequest.of(page, PageSize.check(size), Sort.by("createdAt").descending());
+        return mapPage(projectRepository.findByOwnerId(userId, pageable));
     }
     
     @Transactional
@@ -63,7 +91,7 @@ public class ProjectService {
         project.setDescription(request.getDescription());
         
         Project updatedProject = projectRepository.save(project);
-        return mapToResponse(updatedProject);
+        return mapToResponse(updatedProject, loadTaskCounts(List.of(id)).getOrDefault(id, Collections.emptyMap()));
     }
     
     @Transactional
@@ -78,14 +106,48 @@ public class ProjectService {
         projectRepository.delete(project);
     }
     
-    private ProjectResponse mapToResponse(Project project) {
+    private Page<ProjectResponse> mapPage(Page<Project> projects) {
+        List<Long> projectIds = projects.getContent().stream()
+            .map(Project::getId)
+            .collect(Collectors.toList());
+        Map<Long, Map<Status, Long>> taskCounts = loadTaskCounts(projectIds);
+        
+        return projects.map(project ->
+            mapToResponse(project, taskCounts.getOrDefault(project.getId(), Collections.emptyMap())));
+    }
+    
+    /**
+     * Task counts per project and status from one grouped query, without touching Project.tasks
+     */
+    private Map<Long, Map<Status, Long>> loadTaskCounts(List<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, Map<Status, Long>> counts = new HashMap<>();
+        for (ProjectStatusCount row : taskRepository.countByProjectIdsGroupedByStatus(projectIds)) {
+            counts.computeIfAbsent(row.getProjectId(), id -> new EnumMap<>(Status.class))
+                .put(row.getStatus(), row.getCount());
+        }
+        return counts;
+    }
+    
+    private ProjectResponse mapToResponse(Project project, Map<Status, Long> statusCounts) {
+        Map<String, Long> countsByStatus = new LinkedHashMap<>();
+        long total = 0;
+        for (Status status : Status.values()) {
+            long count = statusCounts.getOrDefault(status, 0L);
+            countsByStatus.put(status.name(), count);
+            total += count;
+        }
+        
         return ProjectResponse.builder()
             .id(project.getId())
             .name(project.getName())
             .description(project.getDescription())
             .ownerId(project.getOwnerId())
             .createdAt(project.getCreatedAt())
-            .taskCount(project.getTasks() != null ? project.getTasks().size() : 0)
+            .taskCount((int) total)
+            .taskCountsByStatus(countsByStatus)
             .build();
     }
 }
\ No newline at end of file
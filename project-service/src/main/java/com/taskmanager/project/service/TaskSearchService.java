@@ -1,8 +1,12 @@
 package com.taskmanager.project.service;
 
 import com.taskmanager.project.dto.TaskResponse;
+import com.taskmanager.project.dto.FeedCursor;
 import com.taskmanager.project.dto.TaskSearchCriteria;
+import com.taskmanager.project.dto.TaskSummary;
+import com.taskmanager.project.entity.Project;
 import com.taskmanager.project.entity.Task;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.*;
@@ -13,12 +17,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Timed("taskmanager.service")
 public class TaskSearchService {
 
     private final EntityManager entityManager;
@@ -61,6 +67,45 @@ public class TaskSearchService {
         return new PageImpl<>(responseList, pageable, total);
     }
 
+    /**
+     * Keyset variant of searchTasks: seeks past the cursor on (createdAt, id) instead of
+     * skipping rows, and runs no count query. Returns up to limit summaries.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskSummary> searchTaskSummaries(TaskSearchCriteria criteria, FeedCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskSummary> query = cb.createQuery(TaskSummary.class);
+        Root<Task> task = query.from(Task.class);
+        Join<Task, Project> project = task.join("project");
+
+        query.select(cb.construct(TaskSummary.class,
+                task.get("id"), task.get("title"), task.get("description"), task.get("assigneeId"),
+                task.get("status"), task.get("priority"), task.get("dueDate"),
+                task.get("createdAt"), task.get("updatedAt"),
+                project.get("id"), project.get("name")));
+
+        List<Predicate> predicates = buildPredicates(criteria, cb, task);
+
+        if (cursor != null) {
+            Path<LocalDateTime> createdAt = task.get("createdAt");
+            Path<Long> id = task.get("id");
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, cursor.createdAt()),
+                    cb.and(cb.equal(createdAt, cursor.createdAt()), cb.lessThan(id, cursor.id()))));
+        }
+
+        if (!predicates.isEmpty()) {
+            query.where(predicates.toArray(new Predicate[0]));
+        }
+
+        // id breaks ties between rows created in the same instant
+        query.orderBy(cb.desc(task.get("createdAt")), cb.desc(task.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
     private List<Predicate> buildPredicates(TaskSearchCriteria criteria,
             CriteriaBuilder cb,
             Root<Task> task) {
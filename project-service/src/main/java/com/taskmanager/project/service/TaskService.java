@@ -1,9 +1,16 @@
 package com.taskmanager.project.service;
 
-import com.taskmanager.project.client.UserServiceClient;
+import com.taskmanager.project.client.ResilientUserServiceClient;
 import com.taskmanager.project.client.dto.UserDTO;
+import com.taskmanager.project.dto.CursorPage;
+import com.taskmanager.project.dto.FeedCursor;
+import com.taskmanager.project.dto.PageSize;
 import com.taskmanager.project.dto.TaskRequest;
 import com.taskmanager.project.dto.TaskResponse;
+import com.taskmanager.project.dto.TaskSearchCriteria;
+import com.taskmanager.project.dto.TaskSummary;
+import com.taskmanager.project.dto.TaskView;
+import com.taskmanager.project.dto.VersionStamp;
 import com.taskmanager.project.entity.Project;
 import com.taskmanager.project.entity.Task;
 import com.taskmanager.project.enums.Status;
@@ -12,6 +19,8 @@ import com.taskmanager.project.kafka.TaskEventProducer;
 import com.taskmanager.project.kafka.dto.TaskEvent;
 import com.taskmanager.project.repository.ProjectRepository;
 import com.taskmanager.project.repository.TaskRepository;
+import com.taskmanager.project.security.RequestTokens;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,17 +30,26 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed("taskmanager.service")
 public class TaskService {
 
     private final TaskRepository taskRepository;
+    private final TaskSearchService taskSearchService;
     private final ProjectRepository projectRepository;
-    private final UserServiceClient userServiceClient;
+    private final UserCacheService userCacheService;
     private final TaskEventProducer taskEventProducer;
 
     @Transactional
@@ -40,8 +58,8 @@ public class TaskService {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new RuntimeException("Project not found with id: " + projectId));
 
-        // Fetch user details using Feign Client
-        UserDTO assignee = userServiceClient.getUserById(request.getAssigneeId());
+        // Fetch user details (cached, falls back to user-service); an unknown assignee fails the request
+        UserDTO assignee = userCacheService.requireUser(request.getAssigneeId());
         log.info("Fetched assignee details: {}", assignee.getName());
 
         // Create task
@@ -71,40 +89,81 @@ public class TaskService {
         return mapToResponse(savedTask, assignee.getName(), project.getName());
     }
 
-    public Page<TaskResponse> getTasksByProject(Long projectId, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Task> tasks = taskRepository.findByProjectId(projectId, pageable);
+    public CompletableFuture<TaskView<Page<TaskResponse>>> getTasksByProject(Long projectId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, PageSize.check(size));
+        Page<TaskSummary> tasks = taskRepository.findSummariesByProjectId(projectId, pageable);
 
-        return tasks.map(task -> {
-            String assigneeName = "Unknown";
-            String projectName = task.getProject() != null ? task.getProject().getName() : "Unknown";
+        return withAssigneeNames(tasks.getContent(), assigneeNames -> tasks.map(task -> mapToResponse(task, assigneeNames)));
+    }
+
+    /**
+     * Cursor-paginated task feed, newest first. Fetches one extra row to detect a next slice.
+     */
+    public CompletableFuture<TaskView<CursorPage<TaskResponse>>> getTaskFeed(TaskSearchCriteria criteria, String cursor, int size) {
+        PageSize.check(size);
+        List<TaskSummary> rows = taskSearchService.searchTaskSummaries(criteria, FeedCursor.decode(cursor), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<TaskSummary> tasks = hasNext ? rows.subList(0, size) : rows;
 
-            try {
-                UserDTO assignee = userServiceClient.getUserById(task.getAssigneeId());
-                assigneeName = assignee.getName();
-            } catch (Exception e) {
-                log.error("Failed to fetch user details", e);
-            }
+        String nextCursor = null;
+        if (hasNext) {
+            TaskSummary last = tasks.get(tasks.size() - 1);
+            nextCursor = new FeedCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        String next = nextCursor;
 
-            return mapToResponse(task, assigneeName, projectName);
-        });
+        return withAssigneeNames(tasks, assigneeNames -> new CursorPage<>(mapToResponses(tasks, assigneeNames), next, hasNext));
     }
 
-    public TaskResponse getTaskById(Long taskId) {
+    public TaskView<TaskResponse> getTaskById(Long taskId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
 
         String assigneeName = "Unknown";
         String projectName = task.getProject() != null ? task.getProject().getName() : "Unknown";
+        boolean resolved = false;
 
         try {
-            UserDTO assignee = userServiceClient.getUserById(task.getAssigneeId());
+            UserDTO assignee = userCacheService.getUser(task.getAssigneeId());
             assigneeName = assignee.getName();
+            resolved = !ResilientUserServiceClient.isPlaceholder(assignee);
         } catch (Exception e) {
             log.error("Failed to fetch user details", e);
         }
 
-        return mapToResponse(task, assigneeName, projectName);
+        return new TaskView<>(mapToResponse(task, assigneeName, projectName), resolved);
+    }
+
+    /**
+     * ETag of a single task from its and its project's last modification time and the user cache
+     * version (the body carries the project and assignee names); empty if the task does not exist
+     */
+    public Optional<String> getTaskETag(Long taskId) {
+        VersionStamp stamp = taskRepository.findVersionStampById(taskId);
+        if (stamp.getCount() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(withUserVersion(stamp.toETag("task-" + taskId)));
+    }
+
+    /**
+     * ETag of a project's task list, checked before the page is loaded
+     */
+    public String getProjectTasksETag(Long projectId) {
+        return withUserVersion(taskRepository.findVersionStampByProjectId(projectId).toETag("project-tasks-" + projectId));
+    }
+
+    /**
+     * ETag of the tasks assigned to a user, checked before the list is loaded
+     */
+    public String getMyTasksETag(Long userId) {
+        return withUserVersion(taskRepository.findVersionStampByAssigneeId(userId).toETag("assignee-tasks-" + userId));
+    }
+
+    // Assignee names come from the user cache, not the tasks table
+    private String withUserVersion(String etag) {
+        return etag + "-u" + userCacheService.version();
     }
 
     @Transactional
@@ -112,8 +171,8 @@ public class TaskService {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found with id: " + taskId));
 
-        // Fetch user details
-        UserDTO assignee = userServiceClient.getUserById(request.getAssigneeId());
+        // Fetch user details; an unknown assignee fails the request
+        UserDTO assignee = userCacheService.requireUser(request.getAssigneeId());
 
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
@@ -149,7 +208,7 @@ public class TaskService {
         Task updatedTask = taskRepository.save(task);
 
         // Fetch user details
-        UserDTO assignee = userServiceClient.getUserById(task.getAssigneeId());
+        UserDTO assignee = userCacheService.getUser(task.getAssigneeId());
 
         // If task is completed, send TASK_COMPLETED event
         if ("DONE".equals(status)) {
@@ -176,46 +235,66 @@ public class TaskService {
         taskRepository.delete(task);
     }
 
-    public List<TaskResponse> getMyTasks(Long userId, String status) {
-        List<Task> tasks;
+    public CompletableFuture<TaskView<List<TaskResponse>>> getMyTasks(Long userId, String status) {
+        List<TaskSummary> tasks;
 
         if (status != null && !status.isEmpty()) {
-            tasks = taskRepository.findByAssigneeIdAndStatus(userId, status);
+            tasks = taskRepository.findSummariesByAssigneeIdAndStatus(userId, Status.valueOf(status));
         } else {
-            tasks = taskRepository.findByAssigneeId(userId);
+            tasks = taskRepository.findSummariesByAssigneeId(userId);
         }
+        List<TaskSummary> found = tasks;
+
+        return withAssigneeNames(found, assigneeNames -> mapToResponses(found, assigneeNames));
+    }
 
-        return tasks.stream().map(task -> {
-            String assigneeName = "Unknown";
-            String projectName = task.getProject() != null ? task.getProject().getName() : "Unknown";
+    public CompletableFuture<TaskView<List<TaskResponse>>> getOverdueTasks() {
+        List<TaskSummary> tasks = taskRepository.findOverdueSummaries();
 
-            try {
-                UserDTO assignee = userServiceClient.getUserById(task.getAssigneeId());
-                assigneeName = assignee.getName();
-            } catch (Exception e) {
-                log.error("Failed to fetch user details", e);
-            }
+        return withAssigneeNames(tasks, assigneeNames -> mapToResponses(tasks, assigneeNames));
+    }
 
-            return mapToResponse(task, assigneeName, projectName);
-        }).collect(Collectors.toList());
+    /**
+     * Build a view once the assignee names are resolved; the view is incomplete when any
+     * assignee was left unresolved (user-service unavailable, or the user no longer exists)
+     */
+    private <T> CompletableFuture<TaskView<T>> withAssigneeNames(List<TaskSummary> tasks,
+            Function<Map<Long, String>, T> buildView) {
+        Set<Long> assigneeIds = tasks.stream()
+                .map(TaskSummary::getAssigneeId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        return resolveAssigneeNames(assigneeIds)
+                .thenApply(assigneeNames -> new TaskView<>(buildView.apply(assigneeNames),
+                        assigneeNames.keySet().containsAll(assigneeIds)));
     }
 
-    public List<TaskResponse> getOverdueTasks() {
-        List<Task> tasks = taskRepository.findOverdueTasks();
+    /**
+     * Resolve assignee names for a page of tasks without blocking the calling thread;
+     * cache misses cost one non-blocking user-service call. Lookup failures yield an empty map.
+     */
+    private CompletableFuture<Map<Long, String>> resolveAssigneeNames(Set<Long> assigneeIds) {
+        if (assigneeIds.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
 
-        return tasks.stream().map(task -> {
-            String assigneeName = "Unknown";
-            String projectName = task.getProject() != null ? task.getProject().getName() : "Unknown";
+        // Captured here, on the request thread; the lookup itself may run on an event loop
+        String authorization = RequestTokens.currentAuthorization();
 
-            try {
-                UserDTO assignee = userServiceClient.getUserById(task.getAssigneeId());
-                assigneeName = assignee.getName();
-            } catch (Exception e) {
-                log.error("Failed to fetch user details", e);
-            }
+        return userCacheService.getUsersAsync(assigneeIds, authorization)
+                .<Map<Long, String>>thenApply(users -> users.values().stream()
+                        .collect(Collectors.toMap(UserDTO::getId, UserDTO::getName)))
+                .exceptionally(e -> {
+                    log.error("Failed to fetch user details for {} assignees", assigneeIds.size(), e);
+                    return Collections.emptyMap();
+                });
+    }
 
-            return mapToResponse(task, assigneeName, projectName);
-        }).collect(Collectors.toList());
+    private List<TaskResponse> mapToResponses(List<TaskSummary> tasks, Map<Long, String> assigneeNames) {
+        return tasks.stream()
+                .map(task -> mapToResponse(task, assigneeNames))
+                .collect(Collectors.toList());
     }
 
     private TaskResponse mapToResponse(Task task, String assigneeName, String projectName) {
@@ -235,4 +314,21 @@ public class TaskService {
         response.setProjectName(projectName);
         return response;
     }
+
+    private TaskResponse mapToResponse(TaskSummary task, Map<Long, String> assigneeNames) {
+        return TaskResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .description(task.getDescription())
+                .assigneeId(task.getAssigneeId())
+                .assigneeName(assigneeNames.getOrDefault(task.getAssigneeId(), "Unknown"))
+                .status(task.getStatus().name())
+                .priority(task.getPriority().name())
+                .dueDate(task.getDueDate())
+                .createdAt(task.getCreatedAt())
+                .updatedAt(task.getUpdatedAt())
+                .projectId(task.getProjectId())
+                .projectName(task.getProjectName())
+                .build();
+    }
 }
\ No newline at end of file
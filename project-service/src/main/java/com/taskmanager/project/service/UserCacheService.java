@@ -0,0 +1,116 @@
+package com.taskmanager.project.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.project.client.ResilientUserServiceClient;
+import com.taskmanager.project.client.dto.UserDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-process cache of user profiles in front of {@link ResilientUserServiceClient}.
+ *
+ * Entries are bounded in number and expire after a TTL; user-service additionally
+ * publishes user-events that evict changed users (see UserEventConsumer).
+ * Hit, miss and eviction counts are published as "cache.*" metrics tagged cache=userProfiles.
+ */
+@Service
+@Slf4j
+public class UserCacheService {
+
+    private static final String CACHE_NAME = "userProfiles";
+
+    private final ResilientUserServiceClient userServiceClient;
+    private final AsyncCache<Long, UserDTO> cache;
+
+    // Random per instance, so a version issued by one instance never matches another's
+    private final String generation = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserCacheService(ResilientUserServiceClient userServiceClient,
+            MeterRegistry meterRegistry,
+            @Value("${user-cache.max-size:10000}") long maxSize,
+            @Value("${user-cache.ttl:PT10M}") Duration ttl) {
+        this.userServiceClient = userServiceClient;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Get a single user, calling user-service only on a cache miss
+     */
+    public UserDTO getUser(Long id) {
+        UserDTO cached = cache.synchronous().getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        UserDTO user = userServiceClient.getUserById(id);
+        if (!ResilientUserServiceClient.isPlaceholder(user)) {
+            cache.synchronous().put(id, user);
+        }
+        return user;
+    }
+
+    /**
+     * Get a single user for a write; unlike getUser a miss never degrades to the "Unknown"
+     * placeholder, so unknown users and an unavailable user-service reach the caller
+     */
+    public UserDTO requireUser(Long id) {
+        return cache.synchronous().get(id, userServiceClient::requireUserById);
+    }
+
+    /**
+     * Get several users; all misses are resolved with one batch call.
+     * Unknown IDs are absent from the returned map.
+     */
+    public Map<Long, UserDTO> getUsers(Collection<Long> ids) {
+        return cache.synchronous().getAll(ids, missing -> toMap(userServiceClient.getUsersByIds(new HashSet<>(missing))));
+    }
+
+    /**
+     * Non-blocking variant of getUsers: hits complete immediately, misses are fetched with one
+     * batch call on the async client. Concurrent callers asking for the same ids share the call.
+     */
+    public CompletableFuture<Map<Long, UserDTO>> getUsersAsync(Collection<Long> ids, String authorization) {
+        return cache.getAll(ids, (missing, executor) -> userServiceClient
+                .getUsersByIdsAsync(new HashSet<>(missing), authorization)
+                .thenApply(this::toMap));
+    }
+
+    /**
+     * Changes whenever a user-event evicts a user, i.e. whenever a cached name may have changed.
+     * Part of the ETags of views that show user names.
+     */
+    public String version() {
+        return generation + "." + evictions.get();
+    }
+
+    public void evict(Long id) {
+        cache.synchronous().invalidate(id);
+        evictions.incrementAndGet();
+        log.debug("Evicted user {} from {} cache", id, CACHE_NAME);
+    }
+
+    private Map<Long, UserDTO> toMap(List<UserDTO> users) {
+        return users.stream()
+                .collect(Collectors.toMap(UserDTO::getId, Function.identity(), (first, second) -> first));
+    }
+}
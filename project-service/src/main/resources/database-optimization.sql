@@ -1,5 +1,7 @@
 -- Database Optimization Script for Task Manager
 -- Day 4: Performance Indexes and Query Analysis
+-- NOTE: indexes are now applied by Flyway (db/migration/project/V2__task_access_path_indexes.sql).
+--       Keep this script for the EXPLAIN ANALYZE and monitoring queries below.
 
 -- =====================================================
 -- CREATE PERFORMANCE INDEXES
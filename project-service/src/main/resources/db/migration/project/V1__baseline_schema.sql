@@ -0,0 +1,40 @@
+-- Baseline of the schema previously created by ddl-auto: update.
+-- IF NOT EXISTS lets this run unchanged on databases that already have the tables.
+
+CREATE TABLE IF NOT EXISTS projects (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255)  NOT NULL,
+    description VARCHAR(1000),
+    owner_id    BIGINT        NOT NULL,
+    created_at  TIMESTAMP(6)  NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    description TEXT,
+    status      VARCHAR(255) NOT NULL,
+    priority    VARCHAR(255) NOT NULL,
+    due_date    DATE,
+    assignee_id BIGINT       NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6),
+    project_id  BIGINT       NOT NULL REFERENCES projects (id)
+);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    content    TEXT         NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    task_id    BIGINT       NOT NULL REFERENCES tasks (id)
+);
+
+CREATE TABLE IF NOT EXISTS attachments (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    file_name   VARCHAR(255) NOT NULL,
+    file_path   VARCHAR(255) NOT NULL,
+    uploaded_by BIGINT       NOT NULL,
+    uploaded_at TIMESTAMP(6) NOT NULL,
+    task_id     BIGINT       NOT NULL REFERENCES tasks (id)
+);
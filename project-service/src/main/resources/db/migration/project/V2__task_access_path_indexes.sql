@@ -0,0 +1,23 @@
+-- Indexes for the hot access paths in TaskRepository, TaskSearchService and CommentRepository.
+-- Keep IndexVerifier.EXPECTED_INDEXES in sync when adding or renaming one.
+
+-- Project listings and the project task feed: WHERE project_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created
+    ON tasks (project_id, created_at DESC, id DESC);
+
+-- "My tasks", optionally filtered by status
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_status
+    ON tasks (assignee_id, status);
+
+-- Overdue scan: only tasks that can still become overdue are indexed
+CREATE INDEX IF NOT EXISTS idx_tasks_overdue
+    ON tasks (due_date)
+    WHERE status <> 'DONE';
+
+-- Comments of a task, newest first
+CREATE INDEX IF NOT EXISTS idx_comments_task_created
+    ON comments (task_id, created_at DESC);
+
+-- Attachments of a task; also serves the cascade on task delete
+CREATE INDEX IF NOT EXISTS idx_attachments_task
+    ON attachments (task_id);
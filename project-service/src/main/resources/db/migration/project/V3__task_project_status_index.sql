@@ -0,0 +1,3 @@
+-- Lets the grouped per-project status count behind /api/projects run as an index-only scan
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status
+    ON tasks (project_id, status);
@@ -0,0 +1,8 @@
+-- Transactional outbox for task-events, drained in id order by OutboxRelay
+CREATE TABLE IF NOT EXISTS task_outbox (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    topic       VARCHAR(255) NOT NULL,
+    message_key VARCHAR(255) NOT NULL,
+    payload     TEXT         NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,4 @@
+-- Versions GET /api/projects/{id} for ETags; existing rows start at their creation time
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
+
+UPDATE projects SET updated_at = created_at WHERE updated_at IS NULL;
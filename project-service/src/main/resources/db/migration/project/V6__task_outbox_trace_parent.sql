@@ -0,0 +1,2 @@
+-- W3C traceparent of the request that queued the event; OutboxRelay forwards it as a Kafka header
+ALTER TABLE task_outbox ADD COLUMN IF NOT EXISTS trace_parent VARCHAR(55);
@@ -0,0 +1,15 @@
+-- Per-row delivery failures; OutboxRelay moves a row to the dead-letter table once it used up its attempts
+ALTER TABLE task_outbox ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE task_outbox ADD COLUMN IF NOT EXISTS last_error VARCHAR(1000);
+
+CREATE TABLE IF NOT EXISTS task_outbox_dead_letter (
+    id           BIGINT       PRIMARY KEY,
+    topic        VARCHAR(255) NOT NULL,
+    message_key  VARCHAR(255) NOT NULL,
+    payload      TEXT         NOT NULL,
+    trace_parent VARCHAR(55),
+    created_at   TIMESTAMP(6) NOT NULL,
+    attempts     INT          NOT NULL,
+    last_error   VARCHAR(1000),
+    failed_at    TIMESTAMP(6) NOT NULL
+);
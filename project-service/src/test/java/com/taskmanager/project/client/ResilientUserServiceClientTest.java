@@ -0,0 +1,81 @@
+package com.taskmanager.project.client;
+
+import com.taskmanager.project.client.dto.UserDTO;
+import com.taskmanager.project.exception.UserNotFoundException;
+import com.taskmanager.project.exception.UserServiceUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ResilientUserServiceClientTest {
+
+    private final ResilientUserServiceClient client = new ResilientUserServiceClient(
+            mock(UserServiceClient.class), mock(UserServiceAsyncClient.class),
+            Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(2));
+
+    @Test
+    void readLookupDegradesWhenUnavailable() throws Throwable {
+        UserDTO user = client.getUserByIdFallback(7L, new UserServiceUnavailableException("down"));
+
+        assertThat(ResilientUserServiceClient.isPlaceholder(user)).isTrue();
+        assertThat(user.getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void readLookupDegradesWhenCircuitIsOpen() throws Throwable {
+        UserDTO user = client.getUserByIdFallback(7L, openCircuit());
+
+        assertThat(ResilientUserServiceClient.isPlaceholder(user)).isTrue();
+    }
+
+    @Test
+    void readLookupRethrowsNotFound() {
+        UserNotFoundException notFound = new UserNotFoundException("missing");
+
+        assertThatThrownBy(() -> client.getUserByIdFallback(7L, notFound)).isSameAs(notFound);
+    }
+
+    @Test
+    void writeLookupNeverDegrades() {
+        assertThatThrownBy(() -> client.requireUserByIdFallback(7L, openCircuit()))
+                .isInstanceOf(UserServiceUnavailableException.class);
+        UserNotFoundException notFound = new UserNotFoundException("missing");
+        assertThatThrownBy(() -> client.requireUserByIdFallback(7L, notFound)).isSameAs(notFound);
+    }
+
+    @Test
+    void asyncBatchDegradesOnlyOnGatewayAnswers() throws Throwable {
+        assertThat(client.getUsersByIdsAsyncFallback(Set.of(7L), null,
+                new CompletionException(webClientError(503))).join()).isEmpty();
+
+        WebClientResponseException internalError = webClientError(500);
+        assertThatThrownBy(() -> client.getUsersByIdsAsyncFallback(Set.of(7L), null, internalError))
+                .isSameAs(internalError);
+    }
+
+    @Test
+    void batchDegradesToNoUsers() throws Throwable {
+        List<UserDTO> users = client.getUsersByIdsFallback(Set.of(7L, 8L), new UserServiceUnavailableException("down"));
+
+        assertThat(users).isEmpty();
+    }
+
+    private static CallNotPermittedException openCircuit() {
+        return CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("user-service"));
+    }
+
+    private static WebClientResponseException webClientError(int status) {
+        return WebClientResponseException.create(status, "status " + status, HttpHeaders.EMPTY, new byte[0], null);
+    }
+}
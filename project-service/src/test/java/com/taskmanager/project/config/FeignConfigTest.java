@@ -0,0 +1,51 @@
+package com.taskmanager.project.config;
+
+import com.taskmanager.project.exception.UserNotFoundException;
+import com.taskmanager.project.exception.UserServiceUnavailableException;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import feign.codec.ErrorDecoder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeignConfigTest {
+
+    private final ErrorDecoder decoder = new FeignConfig().errorDecoder();
+
+    @Test
+    void notFoundIsAnAnswer() {
+        assertThat(decode(404)).isInstanceOf(UserNotFoundException.class);
+    }
+
+    @Test
+    void internalServerErrorIsNotUnavailable() {
+        assertThat(decode(500))
+                .isInstanceOf(FeignException.InternalServerError.class)
+                .isNotInstanceOf(UserServiceUnavailableException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 502, 503, 504 })
+    void gatewayAndTimeoutAnswersAreUnavailable(int status) {
+        assertThat(decode(status)).isInstanceOf(UserServiceUnavailableException.class);
+    }
+
+    private Exception decode(int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://user-service/api/users/7", Map.of(),
+                null, StandardCharsets.UTF_8, null);
+        Response response = Response.builder()
+                .status(status)
+                .reason("status " + status)
+                .request(request)
+                .headers(Map.of())
+                .build();
+        return decoder.decode("UserServiceClient#getUserById(Long)", response);
+    }
+}
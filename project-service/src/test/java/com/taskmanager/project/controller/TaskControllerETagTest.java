@@ -0,0 +1,114 @@
+package com.taskmanager.project.controller;
+
+import com.taskmanager.project.dto.TaskResponse;
+import com.taskmanager.project.dto.TaskView;
+import com.taskmanager.project.service.TaskSearchService;
+import com.taskmanager.project.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TaskControllerETagTest {
+
+    private static final String ETAG = "\"project-tasks-7-1-100-50-u0.0\"";
+
+    private TaskService taskService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        taskService = mock(TaskService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new TaskController(taskService, mock(TaskSearchService.class)))
+                .build();
+        when(taskService.getProjectTasksETag(7L)).thenReturn(ETAG);
+        when(taskService.getTaskETag(11L)).thenReturn(Optional.of(ETAG));
+    }
+
+    @Test
+    void matchingTaskListIsNotModifiedAndNotLoaded() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/projects/7/tasks").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG));
+
+        verify(taskService, never()).getTasksByProject(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void staleTaskListIsSentWithCurrentETag() throws Exception {
+        TaskResponse task = new TaskResponse();
+        task.setId(11L);
+        when(taskService.getTasksByProject(7L, 0, 10))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new TaskView<>(new PageImpl<>(List.of(task), PageRequest.of(0, 10), 1), true)));
+
+        MvcResult started = mockMvc.perform(get("/api/projects/7/tasks").header(HttpHeaders.IF_NONE_MATCH, "\"older\""))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(jsonPath("$.content[0].id").value(11));
+    }
+
+    @Test
+    void matchingTaskIsNotModifiedAndNotLoaded() throws Exception {
+        mockMvc.perform(get("/api/projects/7/tasks/task/11").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified());
+
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    void taskListWithUnknownAssigneeIsSentWithoutETagAndNotStored() throws Exception {
+        TaskResponse task = new TaskResponse();
+        task.setId(11L);
+        task.setAssigneeName("Unknown");
+        when(taskService.getTasksByProject(7L, 0, 10))
+                .thenReturn(CompletableFuture.completedFuture(
+                        new TaskView<>(new PageImpl<>(List.of(task), PageRequest.of(0, 10), 1), false)));
+
+        MvcResult started = mockMvc.perform(get("/api/projects/7/tasks")).andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+                .andExpect(jsonPath("$.content[0].assigneeName").value("Unknown"));
+    }
+
+    @Test
+    void taskWithUnknownAssigneeIsSentWithoutETagAndNotStored() throws Exception {
+        TaskResponse task = new TaskResponse();
+        task.setId(11L);
+        when(taskService.getTaskById(11L)).thenReturn(new TaskView<>(task, false));
+
+        mockMvc.perform(get("/api/projects/7/tasks/task/11").header(HttpHeaders.IF_NONE_MATCH, "\"older\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+    }
+}
@@ -0,0 +1,137 @@
+package com.taskmanager.project.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.project.entity.OutboxEvent;
+import com.taskmanager.project.kafka.dto.TaskEvent;
+import com.taskmanager.project.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.NotEnoughReplicasException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private OutboxEventRepository repository;
+    private KafkaTemplate<String, TaskEvent> kafkaTemplate;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        kafkaTemplate = mock(KafkaTemplate.class);
+        relay = new OutboxRelay(repository, kafkaTemplate, new ObjectMapper(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(relay, "batchSize", 500);
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 3);
+        when(repository.tryLockRelay(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void unreadableRowHoldsBackOnlyItsOwnTask() {
+        OutboxEvent broken = row(1L, "7", "not json", 0);
+        OutboxEvent sameTask = row(2L, "7", "{\"taskId\":7}", 0);
+        OutboxEvent otherTask = row(3L, "8", "{\"taskId\":8}", 0);
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(broken, sameTask, otherTask));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(acknowledged());
+
+        relay.relay();
+
+        ArgumentCaptor<ProducerRecord<String, TaskEvent>> sent = recordCaptor();
+        verify(kafkaTemplate, times(1)).send(sent.capture());
+        assertThat(sent.getValue().key()).isEqualTo("8");
+        verify(repository).deleteAllInBatch(List.of(otherTask));
+        assertThat(broken.getAttempts()).isEqualTo(1);
+        assertThat(broken.getLastError()).isNotBlank();
+        assertThat(sameTask.getAttempts()).isZero();
+        verify(repository, never()).copyToDeadLetter(any());
+    }
+
+    @Test
+    void rowRejectedByTheBrokerIsDeadLetteredAfterMaxAttempts() {
+        OutboxEvent tooLarge = row(1L, "7", "{\"taskId\":7}", 2);
+        OutboxEvent next = row(2L, "8", "{\"taskId\":8}", 0);
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(tooLarge, next));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(failed(new RecordTooLargeException("too large")))
+                .thenReturn(acknowledged());
+
+        relay.relay();
+
+        assertThat(tooLarge.getAttempts()).isEqualTo(3);
+        verify(repository).copyToDeadLetter(List.of(1L));
+        verify(repository).deleteAllByIdInBatch(List.of(1L));
+        verify(repository).deleteAllInBatch(List.of(next));
+    }
+
+    @Test
+    void retriableFailureKeepsTheRowWithoutCountingAnAttempt() {
+        OutboxEvent row = row(1L, "7", "{\"taskId\":7}", 0);
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(row));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(failed(new NotEnoughReplicasException("not enough replicas")));
+
+        relay.relay();
+
+        assertThat(row.getAttempts()).isZero();
+        assertThat(row.getLastError()).contains("not enough replicas");
+        verify(repository, never()).deleteAllInBatch(any());
+        verify(repository, never()).copyToDeadLetter(any());
+    }
+
+    @Test
+    void unacknowledgedSendIsRetriedLater() {
+        OutboxEvent row = row(1L, "7", "{\"taskId\":7}", 0);
+        when(repository.lockNextBatch(anyInt())).thenReturn(List.of(row));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+        ReflectionTestUtils.setField(relay, "sendTimeoutMs", 10L);
+
+        relay.relay();
+
+        assertThat(row.getAttempts()).isZero();
+        verify(repository, never()).deleteAllInBatch(any());
+    }
+
+    private static OutboxEvent row(Long id, String key, String payload, int attempts) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setId(id);
+        outboxEvent.setTopic(TaskEventProducer.TOPIC);
+        outboxEvent.setMessageKey(key);
+        outboxEvent.setPayload(payload);
+        outboxEvent.setAttempts(attempts);
+        return outboxEvent;
+    }
+
+    private static CompletableFuture<SendResult<String, TaskEvent>> acknowledged() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static CompletableFuture<SendResult<String, TaskEvent>> failed(Exception cause) {
+        return CompletableFuture.failedFuture(new KafkaProducerException(null, "send failed", cause));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<ProducerRecord<String, TaskEvent>> recordCaptor() {
+        return ArgumentCaptor.forClass(ProducerRecord.class);
+    }
+}
@@ -0,0 +1,224 @@
+package com.taskmanager.project.monitoring;
+
+import com.taskmanager.project.client.UserServiceAsyncClient;
+import com.taskmanager.project.client.UserServiceClient;
+import com.taskmanager.project.client.dto.UserDTO;
+import com.taskmanager.project.entity.Project;
+import com.taskmanager.project.entity.Task;
+import com.taskmanager.project.enums.Priority;
+import com.taskmanager.project.enums.Status;
+import com.taskmanager.project.kafka.OutboxRelay;
+import com.taskmanager.project.repository.ProjectRepository;
+import com.taskmanager.project.repository.TaskRepository;
+import com.taskmanager.project.security.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the listing endpoints against a database under the test profile, where a request over
+ * the statement budget (query-budget.*) fails with 500 instead of only logging a warning.
+ * H2 in PostgreSQL mode stands in for Postgres; the schema comes from the entities because
+ * the migrations use Postgres-only partial indexes.
+ */
+@SpringBootTest(properties = {
+        "eureka.client.enabled=false",
+        "spring.datasource.url=jdbc:h2:mem:project-listings;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.kafka.bootstrap-servers=localhost:1",
+        "logging.level.org.apache.kafka=OFF",
+        "jwt.secret=listing-endpoints-test-secret-0123456789abcdef"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ListingEndpointsQueryBudgetTest {
+
+    private static final long OWNER_ID = 1L;
+    private static final int PROJECTS = 3;
+    private static final int TASKS_PER_PROJECT = 15;
+    private static final int ASSIGNEES = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private QueryBudget queryBudget;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private UserServiceClient userServiceClient;
+
+    @MockBean
+    private UserServiceAsyncClient userServiceAsyncClient;
+
+    // Nothing is published here; keeps the relay from polling the outbox with Postgres-only SQL
+    @MockBean
+    private OutboxRelay outboxRelay;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        when(userServiceAsyncClient.getUsersByIds(anyCollection(), any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return CompletableFuture.completedFuture(ids.stream().map(ListingEndpointsQueryBudgetTest::user).toList());
+        });
+
+        for (int p = 0; p < PROJECTS; p++) {
+            Project project = new Project();
+            project.setName("Project " + p);
+            project.setOwnerId(OWNER_ID);
+            project = projectRepository.save(project);
+            projectId = project.getId();
+
+            for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                Task task = new Task();
+                task.setProject(project);
+                task.setTitle("Task " + p + "-" + t);
+                task.setAssigneeId(1L + t % ASSIGNEES);
+                task.setStatus(t % 3 == 0 ? Status.DONE : Status.TODO);
+                task.setPriority(Priority.MEDIUM);
+                task.setDueDate(LocalDate.now().minusDays(1 + t));
+                taskRepository.save(task);
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    void testProfileFailsOnExceed() {
+        assertThat(queryBudget.isFailOnExceed()).isTrue();
+        assertThat(queryBudget.isDebugHeaders()).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/projects?size=50",
+            "/api/projects/my?size=50",
+            "/api/tasks/search?size=50",
+            "/api/tasks/search?status=TODO&size=50"
+    })
+    void listingStaysWithinBudget(String uri) throws Exception {
+        MvcResult result = mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertWithinBudget(result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/api/projects/{id}/tasks?size=50",
+            "/api/projects/{id}/tasks/feed?size=50",
+            "/api/tasks/my",
+            "/api/tasks/overdue",
+            "/api/tasks/search/feed?size=50"
+    })
+    void asyncListingStaysWithinBudget(String uri) throws Exception {
+        MvcResult started = mockMvc.perform(get(uri.replace("{id}", String.valueOf(projectId)))
+                        .header(HttpHeaders.AUTHORIZATION, bearer()))
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertWithinBudget(result);
+    }
+
+    @Test
+    void requestOverBudgetFails() throws Exception {
+        int maxStatements = queryBudget.getMaxStatements();
+        ReflectionTestUtils.setField(queryBudget, "maxStatements", 0);
+        try {
+            mockMvc.perform(get("/api/projects").header(HttpHeaders.AUTHORIZATION, bearer()))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(jsonPath("$.message").value("Request exceeded its budget of 0 SQL statements"));
+        } finally {
+            ReflectionTestUtils.setField(queryBudget, "maxStatements", maxStatements);
+        }
+    }
+
+    @Test
+    void projectRenameChangesTaskListETag() throws Exception {
+        String uri = "/api/projects/" + projectId + "/tasks";
+        MvcResult first = mockMvc.perform(asyncDispatch(mockMvc.perform(get(uri)
+                        .header(HttpHeaders.AUTHORIZATION, bearer())).andReturn()))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(asyncDispatch(mockMvc.perform(get(uri)
+                        .header(HttpHeaders.AUTHORIZATION, bearer()).header(HttpHeaders.IF_NONE_MATCH, etag)).andReturn()))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(put("/api/projects/" + projectId)
+                        .header(HttpHeaders.AUTHORIZATION, bearer())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\",\"description\":\"\"}"))
+                .andExpect(status().isOk());
+
+        MvcResult afterRename = mockMvc.perform(asyncDispatch(mockMvc.perform(get(uri)
+                        .header(HttpHeaders.AUTHORIZATION, bearer()).header(HttpHeaders.IF_NONE_MATCH, etag)).andReturn()))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(afterRename.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    private void assertWithinBudget(MvcResult result) {
+        String count = result.getResponse().getHeader("X-Query-Count");
+        assertThat(count).isNotNull();
+        assertThat(Integer.parseInt(count)).isLessThanOrEqualTo(queryBudget.getMaxStatements());
+    }
+
+    private String bearer() {
+        return "Bearer " + jwtUtil.generateToken("owner@example.com", "MEMBER", OWNER_ID);
+    }
+
+    private static UserDTO user(Long id) {
+        return new UserDTO(id, "user" + id + "@example.com", "User " + id, "MEMBER");
+    }
+}
@@ -0,0 +1,82 @@
+package com.taskmanager.project.service;
+
+import com.taskmanager.project.client.ResilientUserServiceClient;
+import com.taskmanager.project.dto.VersionStamp;
+import com.taskmanager.project.kafka.TaskEventProducer;
+import com.taskmanager.project.repository.ProjectRepository;
+import com.taskmanager.project.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TaskServiceETagTest {
+
+    private static final LocalDateTime TASKS_CHANGED = LocalDateTime.of(2026, 1, 2, 10, 0);
+    private static final LocalDateTime PROJECT_CHANGED = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    private TaskRepository taskRepository;
+    private UserCacheService userCacheService;
+    private TaskService taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        userCacheService = new UserCacheService(mock(ResilientUserServiceClient.class), new SimpleMeterRegistry(),
+                100, Duration.ofMinutes(10));
+        taskService = new TaskService(taskRepository, mock(TaskSearchService.class), mock(ProjectRepository.class),
+                userCacheService, mock(TaskEventProducer.class));
+    }
+
+    @Test
+    void projectRenameChangesTaskListETag() {
+        when(taskRepository.findVersionStampByProjectId(7L))
+                .thenReturn(new VersionStamp(3L, TASKS_CHANGED, PROJECT_CHANGED));
+        String before = taskService.getProjectTasksETag(7L);
+
+        when(taskRepository.findVersionStampByProjectId(7L))
+                .thenReturn(new VersionStamp(3L, TASKS_CHANGED, PROJECT_CHANGED.plusDays(5)));
+
+        assertThat(taskService.getProjectTasksETag(7L)).isNotEqualTo(before);
+    }
+
+    @Test
+    void userEventChangesEveryTaskETag() {
+        when(taskRepository.findVersionStampByProjectId(7L))
+                .thenReturn(new VersionStamp(3L, TASKS_CHANGED, PROJECT_CHANGED));
+        when(taskRepository.findVersionStampByAssigneeId(5L))
+                .thenReturn(new VersionStamp(2L, TASKS_CHANGED, PROJECT_CHANGED));
+        when(taskRepository.findVersionStampById(11L))
+                .thenReturn(new VersionStamp(1L, TASKS_CHANGED, PROJECT_CHANGED));
+        String projectTasks = taskService.getProjectTasksETag(7L);
+        String myTasks = taskService.getMyTasksETag(5L);
+        String task = taskService.getTaskETag(11L).orElseThrow();
+
+        userCacheService.evict(5L);
+
+        assertThat(taskService.getProjectTasksETag(7L)).isNotEqualTo(projectTasks);
+        assertThat(taskService.getMyTasksETag(5L)).isNotEqualTo(myTasks);
+        assertThat(taskService.getTaskETag(11L)).hasValueSatisfying(etag -> assertThat(etag).isNotEqualTo(task));
+    }
+
+    @Test
+    void etagIsStableWhileNothingChanges() {
+        when(taskRepository.findVersionStampByAssigneeId(5L))
+                .thenReturn(new VersionStamp(2L, TASKS_CHANGED, PROJECT_CHANGED));
+
+        assertThat(taskService.getMyTasksETag(5L)).isEqualTo(taskService.getMyTasksETag(5L));
+    }
+
+    @Test
+    void missingTaskHasNoETag() {
+        when(taskRepository.findVersionStampById(11L)).thenReturn(new VersionStamp(0L, null, null));
+
+        assertThat(taskService.getTaskETag(11L)).isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanager.project.service;
+
+import com.taskmanager.project.client.ResilientUserServiceClient;
+import com.taskmanager.project.client.dto.UserDTO;
+import com.taskmanager.project.exception.UserNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheServiceTest {
+
+    private ResilientUserServiceClient client;
+    private UserCacheService userCacheService;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(ResilientUserServiceClient.class);
+        userCacheService = new UserCacheService(client, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void requireUserCachesFoundUsers() {
+        when(client.requireUserById(7L)).thenReturn(new UserDTO(7L, "ada@example.com", "Ada", "MEMBER"));
+
+        assertThat(userCacheService.requireUser(7L).getName()).isEqualTo("Ada");
+        assertThat(userCacheService.getUser(7L).getName()).isEqualTo("Ada");
+        verify(client, times(1)).requireUserById(7L);
+    }
+
+    @Test
+    void requireUserPropagatesNotFound() {
+        when(client.requireUserById(7L)).thenThrow(new UserNotFoundException("missing"));
+
+        assertThatThrownBy(() -> userCacheService.requireUser(7L)).isInstanceOf(UserNotFoundException.class);
+        assertThatThrownBy(() -> userCacheService.requireUser(7L)).isInstanceOf(UserNotFoundException.class);
+        verify(client, times(2)).requireUserById(7L);
+    }
+}
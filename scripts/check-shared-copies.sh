@@ -0,0 +1,61 @@
+#!/usr/bin/env bash
+#
+# The services build independently (each Dockerfile builds only its own module), so a few
+# classes are copied into every module that needs them instead of living in a shared jar.
+# This fails when the copies of one class differ in anything but their package, or when
+# the copies of a shared resource differ at all (a changed Avro schema changes its fingerprint,
+# and consumers then cannot decode what the producer writes).
+#
+# Usage:
+#   scripts/check-shared-copies.sh
+
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+
+SHARED_CLASSES=(
+    JwtClaimsCache
+    GatewayIdentityVerifier
+    RepositoryTracingPostProcessor
+    TaskEventAvro
+)
+
+# Paths relative to src/main/resources
+SHARED_RESOURCES=(
+    avro/task-event-v1.avsc
+)
+
+# Drop the package line and module-specific import prefixes before comparing
+normalize() {
+    sed -e '/^package /d' -e 's/com\.taskmanager\.[a-z]*\./com.taskmanager.MODULE./g' "$1"
+}
+
+# Compares every copy of $1 with the first; $2 is the find -path pattern, $3 the normalizer
+check_copies() {
+    local name="$1" pattern="$2" normalizer="$3"
+    local copies reference copy
+    mapfile -t copies < <(cd "$ROOT_DIR" && find . -path "$pattern" -not -path '*/target/*' | sort)
+    if [[ ${#copies[@]} -lt 2 ]]; then
+        echo "$name: expected at least two copies, found ${#copies[@]}" >&2
+        status=1
+        return
+    fi
+    reference="${copies[0]}"
+    for copy in "${copies[@]:1}"; do
+        if ! diff -u <("$normalizer" "$ROOT_DIR/$reference") <("$normalizer" "$ROOT_DIR/$copy") \
+                --label "$reference" --label "$copy"; then
+            status=1
+        fi
+    done
+    echo "$name: ${#copies[@]} copies checked"
+}
+
+status=0
+for class in "${SHARED_CLASSES[@]}"; do
+    check_copies "$class" "*/src/main/java/*/$class.java" normalize
+done
+for resource in "${SHARED_RESOURCES[@]}"; do
+    check_copies "$resource" "*/src/main/resources/$resource" cat
+done
+
+exit $status
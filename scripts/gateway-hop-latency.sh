@@ -0,0 +1,110 @@
+#!/usr/bin/env bash
+#
+# Measures the latency the api-gateway adds per hop.
+#
+# Sends the same authenticated GET straight to a downstream service and through
+# the gateway, then prints p50/p90/p99/max for both and the per-percentile delta.
+#
+# Usage:
+#   TOKEN=<jwt> scripts/gateway-hop-latency.sh [path] [requests]
+#
+# Environment:
+#   GATEWAY_URL   gateway base url              (default http://localhost:8080)
+#   DIRECT_URL    downstream service base url   (default http://localhost:8082)
+#   TOKEN         bearer token from /api/auth/login (required)
+#   WARMUP        warm-up requests per target   (default 200)
+#   CONCURRENCY   parallel curl workers         (default 4)
+#
+# The direct call is authenticated by the service's own JWT check; the gateway
+# call arrives with signed identity headers instead, so the "hop" row is the
+# gateway's routing, token validation and pooled proxying cost.
+#
+# Gateway requests send "Cache-Control: no-cache" so the response cache does not
+# answer them. They still count against the per-user rate limiter: 429s are
+# reported in their own column and fail the run, since leaving them out of the
+# percentiles would skew the hop. Raise the limit or lower CONCURRENCY if they appear.
+# Paths in gateway.coalescing.paths are shared between concurrent identical GETs;
+# measure a path outside that list.
+
+set -euo pipefail
+
+PATH_UNDER_TEST="${1:-/api/projects?page=0&size=20}"
+REQUESTS="${2:-2000}"
+GATEWAY_URL="${GATEWAY_URL:-http://localhost:8080}"
+DIRECT_URL="${DIRECT_URL:-http://localhost:8082}"
+WARMUP="${WARMUP:-200}"
+CONCURRENCY="${CONCURRENCY:-4}"
+
+if [[ -z "${TOKEN:-}" ]]; then
+    echo "TOKEN must be set to a bearer token" >&2
+    exit 1
+fi
+
+command -v curl >/dev/null || { echo "curl is required" >&2; exit 1; }
+
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+# Runs $2 requests against $1 with CONCURRENCY workers, one "status time_total" (seconds) per line;
+# any further arguments are passed to curl
+run() {
+    local url="$1" count="$2" out="$3"
+    shift 3
+    local per_worker=$(( (count + CONCURRENCY - 1) / CONCURRENCY ))
+    : > "$out"
+    for _ in $(seq 1 "$CONCURRENCY"); do
+        (
+            for _ in $(seq 1 "$per_worker"); do
+                curl -s -o /dev/null -w '%{http_code} %{time_total}\n' \
+                     -H "Authorization: Bearer ${TOKEN}" "$@" "$url"
+            done
+        ) >> "$out" &
+    done
+    wait
+}
+
+# Prints "p50 p90 p99 max" in milliseconds for successful requests
+percentiles() {
+    awk '$1 ~ /^2/ { print $2 * 1000 }' "$1" | sort -n | awk '
+        { v[NR] = $1 }
+        END {
+            if (NR == 0) { print "0 0 0 0"; exit }
+            printf "%.2f %.2f %.2f %.2f\n",
+                v[int(NR * 0.50) > 0 ? int(NR * 0.50) : 1],
+                v[int(NR * 0.90) > 0 ? int(NR * 0.90) : 1],
+                v[int(NR * 0.99) > 0 ? int(NR * 0.99) : 1],
+                v[NR]
+        }'
+}
+
+errors() {
+    awk '$1 !~ /^2/ && $1 != "429"' "$1" | wc -l | tr -d ' '
+}
+
+throttled() {
+    awk '$1 == "429"' "$1" | wc -l | tr -d ' '
+}
+
+echo "Warming up (${WARMUP} requests per target)..."
+run "${DIRECT_URL}${PATH_UNDER_TEST}" "$WARMUP" "$WORK_DIR/warmup"
+run "${GATEWAY_URL}${PATH_UNDER_TEST}" "$WARMUP" "$WORK_DIR/warmup" -H "Cache-Control: no-cache"
+
+echo "Measuring ${REQUESTS} requests per target, concurrency ${CONCURRENCY}: ${PATH_UNDER_TEST}"
+run "${DIRECT_URL}${PATH_UNDER_TEST}" "$REQUESTS" "$WORK_DIR/direct"
+run "${GATEWAY_URL}${PATH_UNDER_TEST}" "$REQUESTS" "$WORK_DIR/gateway" -H "Cache-Control: no-cache"
+
+read -r d50 d90 d99 dmax <<< "$(percentiles "$WORK_DIR/direct")"
+read -r g50 g90 g99 gmax <<< "$(percentiles "$WORK_DIR/gateway")"
+
+printf '\n%-10s %10s %10s %10s %10s %8s %8s\n' "target" "p50 ms" "p90 ms" "p99 ms" "max ms" "errors" "429"
+printf '%-10s %10s %10s %10s %10s %8s %8s\n' "direct"  "$d50" "$d90" "$d99" "$dmax" \
+    "$(errors "$WORK_DIR/direct")" "$(throttled "$WORK_DIR/direct")"
+printf '%-10s %10s %10s %10s %10s %8s %8s\n' "gateway" "$g50" "$g90" "$g99" "$gmax" \
+    "$(errors "$WORK_DIR/gateway")" "$(throttled "$WORK_DIR/gateway")"
+awk -v a="$g50" -v b="$d50" -v c="$g90" -v d="$d90" -v e="$g99" -v f="$d99" -v g="$gmax" -v h="$dmax" \
+    'BEGIN { printf "%-10s %10.2f %10.2f %10.2f %10.2f\n", "hop", a - b, c - d, e - f, g - h }'
+
+if [[ "$(throttled "$WORK_DIR/gateway")" -gt 0 ]]; then
+    echo "Gateway rate-limited part of the run (429); the hop row is not comparable. Raise the limit or lower CONCURRENCY." >&2
+    exit 2
+fi
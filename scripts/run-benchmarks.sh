@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+#
+# Builds the benchmarks module and runs the JMH suites, writing machine-readable
+# results next to the human-readable console output.
+#
+# Usage:
+#   scripts/run-benchmarks.sh [jmh args...]
+#
+# Examples:
+#   scripts/run-benchmarks.sh                           # every suite
+#   scripts/run-benchmarks.sh JwtUtilBenchmark          # all JwtUtil variants
+#   scripts/run-benchmarks.sh TaskMapping -f 2 -wi 5    # regex filter plus JMH options
+#
+# Environment:
+#   RESULT_FORMAT   json | csv | scsv | text | latex   (default json)
+#   RESULT_FILE     where results are written          (default benchmarks/target/jmh-result.<format>)
+#   SKIP_BUILD      set to 1 to reuse an existing benchmarks.jar
+#
+# The JSON file is what JMH's own tooling (and e.g. jmh.morethan.io) consumes; keep one
+# per commit to compare runs.
+
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+RESULT_FORMAT="${RESULT_FORMAT:-json}"
+RESULT_FILE="${RESULT_FILE:-$ROOT_DIR/benchmarks/target/jmh-result.$RESULT_FORMAT}"
+JAR="$ROOT_DIR/benchmarks/target/benchmarks.jar"
+
+if [[ "${SKIP_BUILD:-0}" != "1" ]]; then
+    (cd "$ROOT_DIR" && mvn -B -q -pl benchmarks -am package -DskipTests)
+fi
+
+if [[ ! -f "$JAR" ]]; then
+    echo "$JAR not found; run without SKIP_BUILD=1" >&2
+    exit 1
+fi
+
+mkdir -p "$(dirname "$RESULT_FILE")"
+java -jar "$JAR" -rf "$RESULT_FORMAT" -rff "$RESULT_FILE" "$@"
+
+echo "Results written to $RESULT_FILE"
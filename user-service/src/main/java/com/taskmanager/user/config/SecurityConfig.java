@@ -26,6 +26,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/**").permitAll() // ✅ Public auth endpoints
+                        // Probes and the Prometheus scraper carry no user token
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                         .requestMatchers("/api/users/**").authenticated() // ✅ Protected user endpoints
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
@@ -2,12 +2,17 @@ package com.taskmanager.user.controller;
 
 import com.taskmanager.user.dto.UserDTO;
 import com.taskmanager.user.entity.User;
+import com.taskmanager.user.exception.UserNotFoundException;
 import com.taskmanager.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @RestController
 @RequestMapping("/api/users")
 @RequiredArgsConstructor
@@ -25,15 +30,24 @@ public class UserController {
         log.info("Request to get user by ID: {}", id);
 
         User user = userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
 
-        UserDTO userDTO = new UserDTO();
-        userDTO.setId(user.getId());
-        userDTO.setEmail(user.getEmail());
-        userDTO.setName(user.getName());
-        userDTO.setRole(user.getRole().name());
+        return ResponseEntity.ok(mapToDTO(user));
+    }
 
-        return ResponseEntity.ok(userDTO);
+    /**
+     * Get several users in one call - Used by other microservices via Feign
+     * Unknown IDs are skipped, so the result may be shorter than the request
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<UserDTO>> getUsersByIds(@RequestBody Set<Long> ids) {
+        log.info("Request to get {} users by ID", ids.size());
+
+        List<UserDTO> users = userRepository.findAllById(ids).stream()
+                .map(this::mapToDTO)
+                .collect(Collectors.toList());
+
+        return ResponseEntity.ok(users);
     }
 
     /**
@@ -45,14 +59,17 @@ public class UserController {
         log.info("Request to get user by email: {}", email);
 
         User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
+                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
 
+        return ResponseEntity.ok(mapToDTO(user));
+    }
+
+    private UserDTO mapToDTO(User user) {
         UserDTO userDTO = new UserDTO();
         userDTO.setId(user.getId());
         userDTO.setEmail(user.getEmail());
         userDTO.setName(user.getName());
         userDTO.setRole(user.getRole().name());
-
-        return ResponseEntity.ok(userDTO);
+        return userDTO;
     }
 }
\ No newline at end of file
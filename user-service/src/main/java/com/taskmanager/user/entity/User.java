@@ -1,5 +1,6 @@
 package com.taskmanager.user.entity;
 
+import com.taskmanager.user.kafka.UserChangeListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -9,6 +10,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
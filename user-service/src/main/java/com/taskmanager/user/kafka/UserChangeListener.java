@@ -0,0 +1,58 @@
+package com.taskmanager.user.kafka;
+
+import com.taskmanager.user.entity.User;
+import com.taskmanager.user.kafka.dto.UserEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA entity listener that publishes a user-event whenever a User row changes,
+ * so services caching user profiles can invalidate their copies.
+ * Events are sent after commit; a rolled back change publishes nothing.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangeListener {
+
+    private final UserEventProducer userEventProducer;
+
+    @PostUpdate
+    public void onUserUpdated(User user) {
+        publishAfterCommit(toEvent("USER_UPDATED", user));
+    }
+
+    @PostRemove
+    public void onUserDeleted(User user) {
+        publishAfterCommit(toEvent("USER_DELETED", user));
+    }
+
+    private void publishAfterCommit(UserEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            userEventProducer.sendUserEvent(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                userEventProducer.sendUserEvent(event);
+            }
+        });
+    }
+
+    private UserEvent toEvent(String eventType, User user) {
+        return new UserEvent(
+                eventType,
+                user.getId(),
+                user.getEmail(),
+                user.getName(),
+                user.getRole() != null ? user.getRole().name() : null,
+                LocalDateTime.now());
+    }
+}
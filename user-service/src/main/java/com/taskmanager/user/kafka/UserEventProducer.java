@@ -0,0 +1,32 @@
+package com.taskmanager.user.kafka;
+
+import com.taskmanager.user.kafka.dto.UserEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserEventProducer {
+
+    private static final String TOPIC = "user-events";
+    private final KafkaTemplate<String, UserEvent> kafkaTemplate;
+
+    public void sendUserEvent(UserEvent event) {
+        try {
+            kafkaTemplate.send(TOPIC, event.getUserId().toString(), event)
+                    .whenComplete((result, ex) -> {
+                        if (ex == null) {
+                            log.info("User event sent successfully: {} for user {}",
+                                    event.getEventType(), event.getUserId());
+                        } else {
+                            log.error("Failed to send user event: {}", event.getEventType(), ex);
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Error sending user event", e);
+        }
+    }
+}
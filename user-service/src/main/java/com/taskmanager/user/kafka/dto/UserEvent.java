@@ -0,0 +1,19 @@
+package com.taskmanager.user.kafka.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserEvent {
+    private String eventType; // USER_UPDATED, USER_DELETED
+    private Long userId;
+    private String email;
+    private String name;
+    private String role;
+    private LocalDateTime timestamp;
+}
@@ -1,5 +1,6 @@
 package com.taskmanager.user.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,6 +21,7 @@ import java.util.Collections;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
 
     @Override
     protected void doFilterInternal(
@@ -34,21 +36,38 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
+        // Gateway-trusted mode: accept the identity the gateway already verified
+        if (gatewayIdentityVerifier.isEnabled() && SecurityContextHolder.getContext().getAuthentication() == null) {
+            GatewayIdentityVerifier.GatewayIdentity identity = gatewayIdentityVerifier.verify(request);
+            if (identity != null) {
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        identity.email(),
+                        null,
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + identity.role())));
+
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+
         try {
             String authHeader = request.getHeader("Authorization");
-            String token = null;
+            Claims claims = null;
             String email = null;
 
-            // Extract token from header
+            // Extract token from header (single parse + signature check)
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
-                token = authHeader.substring(7);
-                email = jwtUtil.extractEmail(token);
+                claims = jwtUtil.parseClaims(authHeader.substring(7));
+                email = claims.getSubject();
             }
 
             // Validate token and set authentication
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtUtil.validateToken(token, email)) {
-                    String role = jwtUtil.extractRole(token);
+                if (jwtUtil.isValid(claims)) {
+                    String role = claims.get("role", String.class);
 
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             email,
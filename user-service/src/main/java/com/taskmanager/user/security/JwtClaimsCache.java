@@ -0,0 +1,93 @@
+package com.taskmanager.user.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies tokens and caches the verified claims, keyed by SHA-256 of the token, for as long
+ * as the token is valid. Each JwtUtil delegates to it.
+ *
+ * The same class is copied into api-gateway, user-service, project-service and
+ * notification-service, which build independently; only the package differs. Change all
+ * copies together - scripts/check-shared-copies.sh fails when they drift apart.
+ */
+public class JwtClaimsCache {
+
+    private final JwtParser jwtParser;
+    private final Cache<String, Claims> claimsCache;
+
+    public JwtClaimsCache(SecretKey signingKey, long maxSize) {
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.claimsCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+    }
+
+    /**
+     * Parse and verify the token once; repeated calls for the same token hit the cache
+     */
+    public Claims parse(String token) {
+        String cacheKey = cacheKey(token);
+        Claims claims = claimsCache.getIfPresent(cacheKey);
+        if (claims == null) {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() != null) {
+                claimsCache.put(cacheKey, claims);
+            }
+        }
+        return claims;
+    }
+
+    /**
+     * Verified claims are usable when they name a subject and have not expired
+     */
+    public boolean isValid(Claims claims) {
+        return claims.getSubject() != null
+                && claims.getExpiration() != null
+                && claims.getExpiration().after(new Date());
+    }
+
+    private static String cacheKey(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Cached claims live exactly as long as the token they came from
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            long millis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,8 +2,8 @@ package com.taskmanager.user.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
@@ -19,10 +19,24 @@ public class JwtUtil {
     @Value("${jwt.secret:mySecretKey12345678901234567890123456789012}")
     private String SECRET_KEY;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
     private static final long JWT_TOKEN_VALIDITY = 24 * 60 * 60 * 1000; // 24 hours
 
+    private SecretKey signingKey;
+
+    // Verification and the claims cache are shared with the other services' JwtUtil
+    private JwtClaimsCache claimsCache;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        claimsCache = new JwtClaimsCache(signingKey, claimsCacheMaxSize);
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return signingKey;
     }
 
     public String generateToken(String email, String role, Long userId) {
@@ -39,7 +53,7 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + JWT_TOKEN_VALIDITY))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(getSigningKey())
                 .compact();
     }
 
@@ -64,12 +78,15 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Parse and verify the token once; repeated calls for the same token hit the claims cache
+     */
+    public Claims parseClaims(String token) {
+        return claimsCache.parse(token);
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parseClaims(token);
     }
 
     public Boolean isTokenExpired(String token) {
@@ -80,4 +97,8 @@ public class JwtUtil {
         final String extractedEmail = extractEmail(token);
         return (extractedEmail.equals(email) && !isTokenExpired(token));
     }
-}
\ No newline at end of file
+
+    public boolean isValid(Claims claims) {
+        return claimsCache.isValid(claims);
+    }
+}
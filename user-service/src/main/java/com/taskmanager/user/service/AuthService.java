@@ -8,6 +8,7 @@ import com.taskmanager.user.exception.InvalidCredentialsException;
 import com.taskmanager.user.exception.UserAlreadyExistsException;
 import com.taskmanager.user.repository.UserRepository;
 import com.taskmanager.user.security.JwtUtil;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
+@Timed("taskmanager.service")
 public class AuthService {
 
     private final UserRepository userRepository;
@@ -1,23 +1,26 @@
 package com.taskmanager.user.service;
 
 import com.taskmanager.user.entity.User;
+import com.taskmanager.user.exception.UserNotFoundException;
 import com.taskmanager.user.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
+@Timed("taskmanager.service")
 public class UserService {
 
     private final UserRepository userRepository;
 
     public User getUserById(Long id) {
         return userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+                .orElseThrow(() -> new UserNotFoundException("User not found with id: " + id));
     }
 
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
+                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + email));
     }
 }
\ No newline at end of file
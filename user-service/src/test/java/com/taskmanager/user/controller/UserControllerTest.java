@@ -0,0 +1,54 @@
+package com.taskmanager.user.controller;
+
+import com.taskmanager.user.entity.User;
+import com.taskmanager.user.exception.GlobalExceptionHandler;
+import com.taskmanager.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class UserControllerTest {
+
+    private UserRepository userRepository;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new UserController(userRepository))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void missingUserIsNotFound() throws Exception {
+        when(userRepository.findById(7L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/users/7"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("User not found with id: 7"));
+    }
+
+    @Test
+    void existingUserIsReturned() throws Exception {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("ada@example.com");
+        user.setName("Ada");
+        user.setRole(User.Role.MEMBER);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(user));
+
+        mockMvc.perform(get("/api/users/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Ada"));
+    }
+}